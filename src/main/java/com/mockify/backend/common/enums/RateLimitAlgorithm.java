@@ -0,0 +1,19 @@
+package com.mockify.backend.common.enums;
+
+/**
+ * Admission algorithm for a rate-limit window.
+ */
+public enum RateLimitAlgorithm {
+
+    /**
+     * Exact sliding window: one sorted-set member per admitted request, so
+     * memory grows with request volume.
+     */
+    SLIDING_WINDOW,
+
+    /**
+     * Generic cell rate algorithm: one timestamp per key. Admits a burst of
+     * {@code limit}, then one request every {@code window / limit}.
+     */
+    GCRA
+}
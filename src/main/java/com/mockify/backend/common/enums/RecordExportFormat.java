@@ -0,0 +1,35 @@
+package com.mockify.backend.common.enums;
+
+import com.mockify.backend.exception.BadRequestException;
+import org.springframework.http.MediaType;
+
+public enum RecordExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    RecordExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /** Case-insensitive lookup from the {@code format} query parameter. */
+    public static RecordExportFormat from(String value) {
+        for (RecordExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new BadRequestException("Unsupported export format: " + value);
+    }
+}
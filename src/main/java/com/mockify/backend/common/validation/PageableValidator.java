@@ -14,9 +14,10 @@ import org.springframework.data.domain.Pageable;
  * Helps prevent invalid or excessive pagination inputs that could impact performance
  * or cause unexpected behavior in data retrieval.
  *
- * Two validation methods are provided:
+ * Validation methods provided:
  * - Default validation using predefined MAX_SIZE
  * - Custom validation allowing dynamic max page size
+ * - Size-only validation for cursor (keyset) pagination, which has no page number
  */
 
 public class PageableValidator {
@@ -53,4 +54,15 @@ public class PageableValidator {
             throw new BadRequestException("Page size must be greater than 0");
         }
     }
+
+    public static void validateSize(int size, int maxSize) {
+
+        if (size > maxSize) {
+            throw new BadRequestException("Page size cannot exceed " + maxSize);
+        }
+
+        if (size <= 0) {
+            throw new BadRequestException("Page size must be greater than 0");
+        }
+    }
 }
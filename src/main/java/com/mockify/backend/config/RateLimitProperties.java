@@ -1,5 +1,6 @@
 package com.mockify.backend.config;
 
+import com.mockify.backend.common.enums.RateLimitAlgorithm;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -27,12 +28,20 @@ public class RateLimitProperties {
     */
     private Map<String, GroupLimit> groups;
 
+    // Local permit leasing in front of Redis
+    private Lease lease = new Lease();
+
+    // Per-node enforcement while Redis is unavailable
+    private Fallback fallback = new Fallback();
+
     @Getter
     @Setter
     public static class Limit {
         private int limit;
         private Duration window;
         private String type;
+        // sliding-window (exact) or gcra (one key per client, approximate)
+        private RateLimitAlgorithm algorithm = RateLimitAlgorithm.SLIDING_WINDOW;
     }
 
     @Getter
@@ -40,4 +49,25 @@ public class RateLimitProperties {
     public static class GroupLimit extends Limit {
         private List<String> paths;
     }
+
+    @Getter
+    @Setter
+    public static class Lease {
+        private boolean enabled = true;
+        // Most permits one node leases for one client per Redis call
+        private int maxPermits = 20;
+        // How long leased permits stay usable before unused ones are returned
+        private Duration ttl = Duration.ofSeconds(1);
+    }
+
+    @Getter
+    @Setter
+    public static class Fallback {
+        // Consecutive Redis failures before switching to in-memory limiting
+        private int failureThreshold = 5;
+        // How long to stay in-memory before probing Redis again
+        private Duration openDuration = Duration.ofSeconds(10);
+        // Most clients tracked in memory per node
+        private long maxKeys = 100_000;
+    }
 }
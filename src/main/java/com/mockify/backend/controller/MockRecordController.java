@@ -1,26 +1,39 @@
 package com.mockify.backend.controller;
 
+import com.mockify.backend.common.enums.RecordExportFormat;
 import com.mockify.backend.dto.request.record.AutoGenerateRequest;
 import com.mockify.backend.dto.request.record.CreateMockRecordRequest;
 import com.mockify.backend.dto.request.record.UpdateMockRecordRequest;
 import com.mockify.backend.dto.response.page.PageResponse;
+import com.mockify.backend.dto.response.page.SliceResponse;
 import com.mockify.backend.dto.response.record.MockRecordResponse;
+import com.mockify.backend.dto.response.record.RecordExport;
+import com.mockify.backend.dto.response.record.RecordImportSummary;
 import com.mockify.backend.security.SecurityUtils;
 import com.mockify.backend.service.EndpointService;
 import com.mockify.backend.service.MockRecordService;
+import com.mockify.backend.util.RecordCursor;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.List;
 import java.util.UUID;
 
@@ -49,6 +62,9 @@ public class MockRecordController {
     private final MockRecordService mockRecordService;
     private final EndpointService endpointService;
 
+    @Value("${mockify.records.export-timeout:30m}")
+    private Duration exportTimeout;
+
     // Create a new mock record
     @PostMapping("/{org}/{project}/{schema}/records")
     public ResponseEntity<MockRecordResponse> createRecord(
@@ -83,6 +99,25 @@ public class MockRecordController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    // Stream-import records from NDJSON (one record data object per line)
+    @PostMapping(
+            value = "/{org}/{project}/{schema}/records/stream",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<RecordImportSummary> importRecordsStream(
+            @PathVariable String org,
+            @PathVariable String project,
+            @PathVariable String schema,
+            InputStream body,
+            Authentication auth) {
+
+        UUID userId = SecurityUtils.resolveUserId(auth);
+        UUID schemaId = endpointService.resolveSchema(org, project, schema);
+        log.info("User {} stream-importing records under schema {}", userId, schemaId);
+
+        RecordImportSummary summary = mockRecordService.importRecordsStream(userId, schemaId, body);
+        return ResponseEntity.status(HttpStatus.CREATED).body(summary);
+    }
+
     // Auto-generate multiple records
     @PostMapping("/{org}/{project}/{schema}/records/auto-bulk")
     public ResponseEntity<List<MockRecordResponse>> autoGenerateRecordsBulk(
@@ -97,11 +132,42 @@ public class MockRecordController {
         log.info("User {} auto-generating {} records under schema {}", userId, request.getCount(), schemaId);
 
         List<MockRecordResponse> records =
-                mockRecordService.autoGenerateRecordsBulk(userId, schemaId, request.getCount());
+                mockRecordService.autoGenerateRecordsBulk(userId, schemaId, request.getCount(), request.getSeed());
 
         return ResponseEntity.status(HttpStatus.CREATED).body(records);
     }
 
+    // Export every record in a schema as NDJSON (default) or CSV
+    @GetMapping("/{org}/{project}/{schema}/records/export")
+    public WebAsyncTask<Void> exportRecords(
+            @PathVariable String org,
+            @PathVariable String project,
+            @PathVariable String schema,
+            @RequestParam(defaultValue = "ndjson") String format,
+            Authentication auth,
+            HttpServletResponse response) {
+
+        UUID userId = SecurityUtils.resolveUserId(auth);
+        UUID schemaId = endpointService.resolveSchema(org, project, schema);
+        RecordExportFormat exportFormat = RecordExportFormat.from(format);
+        log.info("User {} exporting records under schema {} as {}", userId, schemaId, exportFormat);
+
+        // Access and schema are checked here, before any header is committed
+        RecordExport export = mockRecordService.prepareExport(userId, schemaId, exportFormat);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(exportFormat.getMediaType().toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + schema + "." + exportFormat.getExtension() + "\"");
+
+        // Only this response may stream for as long as the schema takes to drain
+        return new WebAsyncTask<>(exportTimeout.toMillis(), () -> {
+            mockRecordService.exportRecords(userId, export, response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
+
     // Get a record by ID
     @GetMapping("/{org}/{project}/{schema}/records/{recordId}")
     public ResponseEntity<MockRecordResponse> getRecordById(
@@ -114,7 +180,8 @@ public class MockRecordController {
         UUID userId = SecurityUtils.resolveUserId(auth);
         log.debug("User {} fetching record with ID {}", userId, recordId);
 
-        MockRecordResponse record = mockRecordService.getRecordById(userId, recordId);
+        MockRecordResponse record =
+                mockRecordService.getRecordByPath(userId, org, project, schema, recordId);
         return ResponseEntity.ok(record);
     }
 
@@ -136,6 +203,26 @@ public class MockRecordController {
         return ResponseEntity.ok(PageResponse.from(page));
     }
 
+    // Cursor-paged records under a schema, newest first, without total counts
+    @GetMapping("/{org}/{project}/{schema}/records/scroll")
+    public ResponseEntity<SliceResponse<MockRecordResponse>> scrollRecords(
+            @PathVariable String org,
+            @PathVariable String project,
+            @PathVariable String schema,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication auth) {
+
+        UUID userId = SecurityUtils.resolveUserId(auth);
+        UUID schemaId = endpointService.resolveSchema(org, project, schema);
+
+        Slice<MockRecordResponse> slice =
+                mockRecordService.getRecordSliceBySchemaId(userId, schemaId, cursor, size);
+
+        return ResponseEntity.ok(SliceResponse.from(slice,
+                r -> new RecordCursor(r.getCreatedAt(), r.getId()).encode()));
+    }
+
     // Update an existing mock record
     @PutMapping("/{org}/{project}/{schema}/records/{recordId}")
     public ResponseEntity<MockRecordResponse> updateRecord(
@@ -1,14 +1,17 @@
 package com.mockify.backend.controller;
 
 import com.mockify.backend.dto.response.page.PageResponse;
+import com.mockify.backend.dto.response.page.SliceResponse;
 import com.mockify.backend.dto.response.record.MockRecordResponse;
 import com.mockify.backend.service.EndpointService;
 import com.mockify.backend.service.PublicMockRecordService;
+import com.mockify.backend.util.RecordCursor;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -58,4 +61,23 @@ public class PublicMockRecordController {
 
         return ResponseEntity.ok(PageResponse.from(page));
     }
+
+    /**
+     * Cursor-paged records under a schema, newest first (Public/Free User).
+     * Pass back {@code nextCursor} to fetch the following slice; no total count is computed.
+     */
+    @GetMapping("/{org}/{project}/{schema}/records/scroll")
+    public ResponseEntity<SliceResponse<MockRecordResponse>> scrollRecords(
+            @PathVariable String org,
+            @PathVariable String project,
+            @PathVariable String schema,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "5") int size) {
+
+        UUID schemaId = endpointService.resolveSchema(org, project, schema);
+        Slice<MockRecordResponse> slice = publicMockRecordService.getRecordSliceBySchemaId(schemaId, cursor, size);
+
+        return ResponseEntity.ok(SliceResponse.from(slice,
+                r -> new RecordCursor(r.getCreatedAt(), r.getId()).encode()));
+    }
 }
@@ -7,7 +7,9 @@ import lombok.Data;
 @Data
 public class AutoGenerateRequest {
     @Min(1)
-    @Max(1000)
+    @Max(10000)
     private int count;
 
+    // Optional; the same seed and count reproduce the same record data
+    private Long seed;
 }
@@ -0,0 +1,32 @@
+package com.mockify.backend.dto.response.page;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Cursor-paged counterpart of {@link PageResponse}: no totals, just the rows and
+ * an opaque token for the next slice ({@code null} on the last one).
+ */
+public record SliceResponse<T>(
+        List<T> data,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+
+    public static <T> SliceResponse<T> from(Slice<T> slice, Function<T, String> cursorOf) {
+        List<T> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? cursorOf.apply(content.get(content.size() - 1))
+                : null;
+
+        return new SliceResponse<>(
+                content,
+                slice.getSize(),
+                slice.hasNext(),
+                nextCursor
+        );
+    }
+}
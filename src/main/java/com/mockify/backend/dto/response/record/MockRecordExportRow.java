@@ -0,0 +1,16 @@
+package com.mockify.backend.dto.response.record;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Unmanaged row read by the record export stream — never enters the
+ * persistence context, so exports run in constant memory.
+ */
+public record MockRecordExportRow(
+        UUID id,
+        Map<String, Object> data,
+        LocalDateTime createdAt,
+        LocalDateTime expiresAt
+) {}
@@ -0,0 +1,16 @@
+package com.mockify.backend.dto.response.record;
+
+import com.mockify.backend.common.enums.RecordExportFormat;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * An authorized export, resolved on the request thread before any byte is
+ * written: the schema exists and its data columns (CSV header) are known.
+ */
+public record RecordExport(
+        UUID schemaId,
+        RecordExportFormat format,
+        List<String> columns
+) {}
@@ -0,0 +1,18 @@
+package com.mockify.backend.dto.response.record;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecordImportSummary {
+    private long received;          // non-blank lines read
+    private long inserted;
+    private long failed;
+    private List<Long> failedLines; // 1-based line numbers, capped
+    private long elapsedMs;
+}
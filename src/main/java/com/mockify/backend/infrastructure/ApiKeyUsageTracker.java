@@ -0,0 +1,111 @@
+package com.mockify.backend.infrastructure;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Write-behind tracker for {@code api_keys.last_used_at}.
+ *
+ * <p>Authentication only records the key id and time in memory; a scheduled
+ * flush writes every key touched since the last run in one
+ * {@code UPDATE ... FROM (VALUES ...)} per chunk. Repeated use of a hot key
+ * between flushes collapses into a single row update, and no request thread
+ * ever writes to {@code api_keys}.</p>
+ *
+ * <p>{@code lastUsedAt} lags by at most the flush interval. Pending entries are
+ * flushed on shutdown; a crash loses at most one interval of timestamps.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiKeyUsageTracker {
+
+    private static final int FLUSH_CHUNK_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentHashMap<UUID, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Records a use of the key. Keeps the latest timestamp if the key is
+     * already pending.
+     */
+    public void recordUse(UUID apiKeyId) {
+        LocalDateTime now = LocalDateTime.now();
+        pending.merge(apiKeyId, now, (prev, next) -> next.isAfter(prev) ? next : prev);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${mockify.api-keys.last-used-flush-interval:30s}",
+            initialDelayString = "${mockify.api-keys.last-used-flush-interval:30s}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // Atomic per-key remove: a use recorded after its entry is drained
+        // simply re-adds the key for the next flush
+        List<Map.Entry<UUID, LocalDateTime>> drained = new ArrayList<>(pending.size());
+        for (UUID keyId : pending.keySet()) {
+            LocalDateTime usedAt = pending.remove(keyId);
+            if (usedAt != null) {
+                drained.add(Map.entry(keyId, usedAt));
+            }
+        }
+
+        int updated = 0;
+        try {
+            for (int from = 0; from < drained.size(); from += FLUSH_CHUNK_SIZE) {
+                updated += writeChunk(drained.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, drained.size())));
+            }
+        } catch (Exception e) {
+            // Put the timestamps back unless a newer use arrived meanwhile
+            drained.forEach(entry -> pending.merge(entry.getKey(), entry.getValue(),
+                    (newer, old) -> newer.isAfter(old) ? newer : old));
+            log.warn("Failed to flush API key last-used timestamps for {} key(s); will retry", drained.size(), e);
+            return;
+        }
+
+        log.debug("Flushed last-used timestamps: {} key(s) drained, {} row(s) updated", drained.size(), updated);
+    }
+
+    @PreDestroy
+    void flushOnShutdown() {
+        flush();
+    }
+
+    private int writeChunk(List<Map.Entry<UUID, LocalDateTime>> chunk) {
+        StringBuilder sql = new StringBuilder("""
+                UPDATE api_keys AS k
+                SET last_used_at = v.used_at
+                FROM (VALUES\s""");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?::uuid, ?::timestamptz)");
+        }
+        sql.append("""
+                ) AS v(id, used_at)
+                WHERE k.id = v.id
+                  AND (k.last_used_at IS NULL OR k.last_used_at < v.used_at)
+                """);
+
+        return jdbcTemplate.update(sql.toString(), ps -> {
+            int index = 1;
+            for (Map.Entry<UUID, LocalDateTime> entry : chunk) {
+                ps.setObject(index++, entry.getKey());
+                ps.setTimestamp(index++, Timestamp.valueOf(entry.getValue()));
+            }
+        });
+    }
+}
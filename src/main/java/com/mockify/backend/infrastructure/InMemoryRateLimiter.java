@@ -0,0 +1,175 @@
+package com.mockify.backend.infrastructure;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.mockify.backend.config.RateLimitProperties;
+import com.mockify.backend.dto.response.ratelimit.RateLimitResult;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-node sliding-window limiter used while Redis is unavailable.
+ *
+ * <p>Same contract as {@link RedisRateLimiter#check(List)}: all windows admit
+ * or none is charged. Every window is enforced as an exact sliding window
+ * whatever its configured algorithm. Limits are not shared between nodes, so
+ * in this mode a client can get up to its limit from each node.</p>
+ *
+ * <p>A window's log is a ring buffer of at most {@code limit} timestamps and
+ * is dropped one window length after its last use, or when more than
+ * {@code max-keys} clients are tracked.</p>
+ *
+ * <p>Each log has its own lock. A check locks the logs of all its windows, in
+ * key order so that overlapping checks cannot deadlock, which keeps it
+ * all-or-nothing without serializing unrelated clients.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class InMemoryRateLimiter {
+
+    private final RateLimitProperties properties;
+
+    private Cache<String, SlidingLog> logs;
+
+    @PostConstruct
+    void init() {
+        logs = Caffeine.newBuilder()
+                .maximumSize(properties.getFallback().getMaxKeys())
+                .expireAfter(new Expiry<String, SlidingLog>() {
+                    @Override
+                    public long expireAfterCreate(String key, SlidingLog log, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(log.windowMillis);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, SlidingLog log, long currentTime, long currentDuration) {
+                        return TimeUnit.MILLISECONDS.toNanos(log.windowMillis);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, SlidingLog log, long currentTime, long currentDuration) {
+                        return TimeUnit.MILLISECONDS.toNanos(log.windowMillis);
+                    }
+                })
+                .build();
+    }
+
+    public RateLimitResult check(List<RedisRateLimiter.Window> windows) {
+        if (windows.isEmpty()) {
+            throw new IllegalArgumentException("At least one rate-limit window is required");
+        }
+
+        while (true) {
+            List<SlidingLog> resolved = new ArrayList<>(windows.size());
+            for (RedisRateLimiter.Window window : windows) {
+                resolved.add(resolve(window));
+            }
+
+            List<SlidingLog> lockOrder = new ArrayList<>(resolved);
+            lockOrder.sort(Comparator.comparing(log -> log.key));
+            lockOrder.forEach(log -> log.lock.lock());
+            try {
+                // A log evicted or replaced while we waited would drop this charge: retry
+                if (resolved.stream().allMatch(log -> logs.getIfPresent(log.key) == log)) {
+                    return admit(windows, resolved);
+                }
+            } finally {
+                for (int i = lockOrder.size() - 1; i >= 0; i--) {
+                    lockOrder.get(i).lock.unlock();
+                }
+            }
+        }
+    }
+
+    // Caller holds the lock of every log in resolved
+    private RateLimitResult admit(List<RedisRateLimiter.Window> windows, List<SlidingLog> resolved) {
+        long now = System.currentTimeMillis();
+
+        for (int i = 0; i < windows.size(); i++) {
+            RedisRateLimiter.Window window = windows.get(i);
+            SlidingLog log = resolved.get(i);
+            log.evictBefore(now - log.windowMillis);
+            if (log.size >= log.capacity()) {
+                return new RateLimitResult(false, window.limit(), 0, toEpochSec(log.resetAt(now)));
+            }
+        }
+
+        resolved.forEach(log -> log.add(now));
+
+        SlidingLog last = resolved.get(resolved.size() - 1);
+        return new RateLimitResult(
+                true,
+                last.capacity(),
+                last.capacity() - last.size,
+                toEpochSec(last.resetAt(now)));
+    }
+
+    public void clear() {
+        logs.invalidateAll();
+    }
+
+    private SlidingLog resolve(RedisRateLimiter.Window window) {
+        long windowMillis = window.window().toMillis();
+        SlidingLog log = logs.get(window.redisKey(), key -> new SlidingLog(key, window.limit(), windowMillis));
+        if (log.capacity() == window.limit() && log.windowMillis == windowMillis) {
+            return log;
+        }
+
+        // Limits changed since the log was created: start over
+        return logs.asMap().compute(window.redisKey(), (key, current) ->
+                current != null && current.capacity() == window.limit() && current.windowMillis == windowMillis
+                        ? current
+                        : new SlidingLog(key, window.limit(), windowMillis));
+    }
+
+    private static long toEpochSec(long epochMillis) {
+        return (epochMillis + 999) / 1000;
+    }
+
+    /**
+     * Admission timestamps of one window, oldest first, in a ring buffer.
+     */
+    private static final class SlidingLog {
+
+        private final String key;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final long[] timestamps;
+        private final long windowMillis;
+        private int head;
+        private int size;
+
+        SlidingLog(String key, int limit, long windowMillis) {
+            this.key = key;
+            this.timestamps = new long[Math.max(0, limit)];
+            this.windowMillis = windowMillis;
+        }
+
+        int capacity() {
+            return timestamps.length;
+        }
+
+        void evictBefore(long cutoff) {
+            while (size > 0 && timestamps[head] <= cutoff) {
+                head = (head + 1) % timestamps.length;
+                size--;
+            }
+        }
+
+        void add(long now) {
+            timestamps[(head + size) % timestamps.length] = now;
+            size++;
+        }
+
+        long resetAt(long now) {
+            return size > 0 ? timestamps[head] + windowMillis : now + windowMillis;
+        }
+    }
+}
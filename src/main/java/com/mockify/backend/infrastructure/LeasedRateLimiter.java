@@ -0,0 +1,260 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.config.RateLimitProperties;
+import com.mockify.backend.dto.response.ratelimit.RateLimitResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Node-local admission in front of {@link RedisRateLimiter}.
+ *
+ * <p>Instead of one Redis call per request, a node leases a chunk of permits
+ * for a client (every window of the check at once) and admits the following
+ * requests from a lock-free local counter until the chunk is spent or its
+ * TTL passes. The lease size is a quarter of the headroom Redis reported on
+ * the previous lease, capped at {@code max-permits}: clients far below their
+ * limit hit Redis once per chunk, clients near it lease one permit at a time,
+ * which is a Redis round-trip per request exactly as without leasing. Groups
+ * with a limit below 8 never lease more than one permit.</p>
+ *
+ * <p>Leased permits are counted in Redis when leased, so nodes never admit
+ * more than Redis granted. The error is in timing: a permit may be spent up
+ * to {@code ttl} after Redis counted it, so across any one window a client can
+ * exceed its limit by at most {@code max-permits} per node. Unused permits
+ * are handed back to Redis asynchronously when a lease expires or is
+ * replaced; until then they make the client look busier than it is.</p>
+ *
+ * <p>Redis calls go through {@link RateLimitCircuitBreaker}. A failed call, or
+ * any call while the circuit is open, is answered by the per-node
+ * {@link InMemoryRateLimiter} instead, so an outage neither fails requests nor
+ * lifts limits. Leases already held keep being spent locally.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LeasedRateLimiter {
+
+    /** A lease takes at most this fraction (1/n) of the headroom left. */
+    private static final int LEASE_SHARE = 4;
+
+    private final RedisRateLimiter redisRateLimiter;
+    private final RateLimitProperties properties;
+    private final RateLimitCircuitBreaker circuitBreaker;
+    private final InMemoryRateLimiter fallbackLimiter;
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<String, LocalLease> leases = new ConcurrentHashMap<>();
+    private final Queue<LocalLease> pendingReleases = new ConcurrentLinkedQueue<>();
+
+    private Counter localDecisions;
+    private Counter redisDecisions;
+    private Counter memoryDecisions;
+
+    @PostConstruct
+    void init() {
+        localDecisions = Counter.builder("rate_limit.decisions")
+                .description("Rate-limit decisions by where they were made")
+                .tag("source", "local")
+                .register(meterRegistry);
+        redisDecisions = Counter.builder("rate_limit.decisions")
+                .description("Rate-limit decisions by where they were made")
+                .tag("source", "redis")
+                .register(meterRegistry);
+        memoryDecisions = Counter.builder("rate_limit.decisions")
+                .description("Rate-limit decisions by where they were made")
+                .tag("source", "memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Same contract as {@link RedisRateLimiter#check(List)}; answers from a
+     * local lease when one is available, and from {@link InMemoryRateLimiter}
+     * while the Redis circuit is open or when the Redis call fails.
+     */
+    public RateLimitResult check(List<RedisRateLimiter.Window> windows) {
+        RateLimitProperties.Lease config = properties.getLease();
+        boolean leasing = config.isEnabled() && config.getMaxPermits() > 1;
+
+        String leaseKey = null;
+        LocalLease current = null;
+        long now = System.nanoTime();
+
+        if (leasing) {
+            leaseKey = leaseKey(windows);
+            current = leases.get(leaseKey);
+            if (current != null && current.tryTake(now)) {
+                localDecisions.increment();
+                return current.result();
+            }
+        }
+
+        if (!circuitBreaker.allowRequest()) {
+            memoryDecisions.increment();
+            return fallbackLimiter.check(windows);
+        }
+
+        try {
+            RateLimitResult result = leasing
+                    ? leaseFromRedis(windows, leaseKey, current, config, now)
+                    : redisRateLimiter.check(windows);
+            circuitBreaker.recordSuccess();
+            redisDecisions.increment();
+            return result;
+        } catch (RuntimeException e) {
+            log.debug("Redis rate-limit check failed; using in-memory limits", e);
+            circuitBreaker.recordFailure(e);
+            memoryDecisions.increment();
+            return fallbackLimiter.check(windows);
+        }
+    }
+
+    private RateLimitResult leaseFromRedis(List<RedisRateLimiter.Window> windows, String leaseKey,
+                                           LocalLease current, RateLimitProperties.Lease config, long now) {
+        int permits = leaseSize(windows, current, config.getMaxPermits());
+        RedisRateLimiter.Lease lease = redisRateLimiter.acquire(windows, permits);
+
+        // One permit goes to this request; a denial is kept too, so the next
+        // lease is sized from its zero headroom
+        LocalLease local = new LocalLease(windows, lease,
+                Math.max(0, lease.granted() - 1), now + config.getTtl().toNanos());
+
+        LocalLease previous = leases.put(leaseKey, local);
+        if (previous != null) {
+            retire(previous);
+        }
+
+        return lease.granted() > 0 ? local.result() : lease.result();
+    }
+
+    /**
+     * Drops expired leases and hands their unused permits back to Redis.
+     */
+    @Scheduled(fixedDelayString = "${mockify.rate-limit.lease.ttl:1s}")
+    public void reconcile() {
+        long now = System.nanoTime();
+        leases.forEach((key, lease) -> {
+            if (lease.isExpired(now) && leases.remove(key, lease)) {
+                retire(lease);
+            }
+        });
+
+        // Not worth a Redis call while it is down: leased entries expire on their own
+        if (circuitBreaker.isDegraded()) {
+            pendingReleases.clear();
+            return;
+        }
+
+        LocalLease lease;
+        while ((lease = pendingReleases.poll()) != null) {
+            try {
+                redisRateLimiter.release(lease.windows, lease.lease, lease.unused);
+            } catch (RuntimeException e) {
+                // Not retried: leased sliding-window entries age out with the
+                // window and a GCRA timestamp catches up with the clock
+                log.warn("Failed to return leased rate-limit permits; dropping {} pending release(s)",
+                        pendingReleases.size() + 1, e);
+                circuitBreaker.recordFailure(e);
+                pendingReleases.clear();
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    void releaseOnShutdown() {
+        leases.values().forEach(this::retire);
+        leases.clear();
+        reconcile();
+    }
+
+    private void retire(LocalLease lease) {
+        lease.unused = lease.drain();
+        if (lease.unused > 0) {
+            pendingReleases.add(lease);
+        }
+    }
+
+    private static int leaseSize(List<RedisRateLimiter.Window> windows, LocalLease previous, int maxPermits) {
+        long headroom = previous != null
+                ? previous.lease.headroom()
+                : windows.stream().mapToLong(RedisRateLimiter.Window::limit).min().orElse(1);
+
+        return (int) Math.max(1, Math.min(maxPermits, headroom / LEASE_SHARE));
+    }
+
+    private static String leaseKey(List<RedisRateLimiter.Window> windows) {
+        if (windows.size() == 1) {
+            return windows.get(0).redisKey();
+        }
+        return windows.stream()
+                .map(RedisRateLimiter.Window::redisKey)
+                .collect(Collectors.joining("|"));
+    }
+
+    /**
+     * Permits left from one Redis lease. Taken with a CAS loop, no locking.
+     */
+    private static final class LocalLease {
+
+        private final List<RedisRateLimiter.Window> windows;
+        private final RedisRateLimiter.Lease lease;
+        private final AtomicInteger permits;
+        private final long expiresAtNanos;
+
+        // Set once the lease is retired
+        private int unused;
+
+        LocalLease(List<RedisRateLimiter.Window> windows, RedisRateLimiter.Lease lease,
+                   int permits, long expiresAtNanos) {
+            this.windows = windows;
+            this.lease = lease;
+            this.permits = new AtomicInteger(permits);
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired(long nowNanos) {
+            return nowNanos - expiresAtNanos >= 0;
+        }
+
+        boolean tryTake(long nowNanos) {
+            if (isExpired(nowNanos)) {
+                return false;
+            }
+            int left;
+            do {
+                left = permits.get();
+                if (left <= 0) {
+                    return false;
+                }
+            } while (!permits.compareAndSet(left, left - 1));
+            return true;
+        }
+
+        int drain() {
+            return permits.getAndSet(0);
+        }
+
+        // Permits still held here remain available to this client
+        RateLimitResult result() {
+            RateLimitResult leased = lease.result();
+            return new RateLimitResult(
+                    true,
+                    leased.limit(),
+                    leased.remaining() + Math.max(0, permits.get()),
+                    leased.resetEpochSec());
+        }
+    }
+}
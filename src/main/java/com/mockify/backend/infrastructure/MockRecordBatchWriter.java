@@ -0,0 +1,88 @@
+package com.mockify.backend.infrastructure;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mockify.backend.exception.InternalServerException;
+import com.mockify.backend.model.MockRecord;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Batched JDBC writer for {@code mock_records}.
+ *
+ * <p>Bypasses the JPA persistence context so a bulk insert costs one round-trip
+ * per chunk instead of one per record. Records must arrive fully populated
+ * (application-generated id, schema, timestamps) — nothing is generated here.</p>
+ *
+ * <p>Timestamps are bound as {@link java.time.LocalDateTime}, as JPA binds them:
+ * the wall-clock value is stored unchanged, whatever the JVM's zone.</p>
+ *
+ * <p>With {@code reWriteBatchedInserts=true} on the Postgres driver each chunk is
+ * sent as a single multi-row {@code INSERT ... VALUES}. The writer joins the
+ * caller's transaction; called outside one, each {@link #insertAll} call
+ * commits on its own.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MockRecordBatchWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO mock_records (id, mock_schema_id, data, created_at, expires_at, updated_at)
+            VALUES (?, ?, ?::jsonb, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${mockify.records.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Configured rows per JDBC batch; also used by callers that buffer records.
+     */
+    public int getBatchSize() {
+        return Math.max(1, batchSize);
+    }
+
+    /**
+     * Inserts all records in chunks of {@code mockify.records.batch-size}.
+     *
+     * @return number of rows written
+     */
+    @Transactional
+    public int insertAll(Collection<MockRecord> records) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+
+        int chunkSize = getBatchSize();
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, records, chunkSize, (ps, record) -> {
+            ps.setObject(1, record.getId());
+            ps.setObject(2, record.getMockSchema().getId());
+            ps.setString(3, toJson(record.getData()));
+            ps.setObject(4, record.getCreatedAt());
+            ps.setObject(5, record.getExpiresAt());
+            ps.setObject(6, record.getUpdatedAt());
+        });
+
+        log.debug("Batch inserted {} mock records in chunks of {}", records.size(), chunkSize);
+        return records.size();
+    }
+
+    private String toJson(Map<String, Object> data) {
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new InternalServerException("Failed to serialize record data");
+        }
+    }
+}
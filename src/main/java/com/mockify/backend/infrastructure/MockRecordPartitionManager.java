@@ -0,0 +1,144 @@
+package com.mockify.backend.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * DDL for the daily {@code expires_at} range partitions of {@code mock_records}
+ * (see V15).
+ *
+ * <p>A partition {@code mock_records_pYYYYMMDD} holds the records expiring on
+ * that day. Once the day has passed every row in it is expired, so the whole
+ * partition is dropped: constant time, no row deletes, nothing left for
+ * vacuum. The default partition is never dropped.</p>
+ *
+ * <p>Creating and dropping a partition take an ACCESS EXCLUSIVE lock on
+ * {@code mock_records}. Each statement runs in its own transaction under
+ * {@code lock-timeout}, so it never queues behind a long reader and stalls
+ * every query queued behind it; a partition whose lock times out is skipped
+ * until the next run. ({@code DETACH ... CONCURRENTLY} is not an option: the
+ * table has a default partition.)</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MockRecordPartitionManager {
+
+    private static final String PARTITION_PREFIX = "mock_records_p";
+    private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{8})");
+    private static final DateTimeFormatter DAY = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = 'mock_records'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${cleanup.mock-record-partitions.lock-timeout:5s}")
+    private Duration lockTimeout;
+
+    /**
+     * Creates the partitions for {@code from} and the following {@code days}
+     * days that do not exist yet.
+     *
+     * @return number of partitions created
+     */
+    public int ensurePartitions(LocalDate from, int days) {
+        int created = 0;
+        List<String> existing = listPartitions();
+
+        for (int i = 0; i <= days; i++) {
+            LocalDate day = from.plusDays(i);
+            String name = partitionName(day);
+            if (existing.contains(name)) {
+                continue;
+            }
+
+            try {
+                executeWithLockTimeout(String.format(
+                        "CREATE TABLE IF NOT EXISTS %s PARTITION OF mock_records FOR VALUES FROM ('%s') TO ('%s')",
+                        name, day, day.plusDays(1)));
+                created++;
+            } catch (CannotAcquireLockException e) {
+                log.warn("[Partitions] Timed out waiting for the lock to create {}; retrying next run", name);
+            } catch (DataAccessException e) {
+                // Typically rows for this day already sit in the default partition;
+                // they keep being served from there and expire through row deletes
+                log.warn("[Partitions] Could not create partition {}", name, e);
+            }
+        }
+
+        if (created > 0) {
+            log.info("[Partitions] Created {} mock_records partition(s) from {}", created, from);
+        }
+        return created;
+    }
+
+    /**
+     * Drops every daily partition whose whole range lies before
+     * {@code now}.
+     *
+     * @return number of partitions dropped
+     */
+    public int dropExpiredPartitions(LocalDateTime now) {
+        int dropped = 0;
+
+        for (String name : listPartitions()) {
+            Matcher matcher = PARTITION_NAME.matcher(name);
+            if (!matcher.matches()) {
+                continue;
+            }
+
+            LocalDate day = LocalDate.parse(matcher.group(1), DAY);
+            if (day.plusDays(1).atStartOfDay().isAfter(now)) {
+                continue;
+            }
+
+            try {
+                // Dropping a partition detaches it in the same statement
+                executeWithLockTimeout("DROP TABLE IF EXISTS " + name);
+            } catch (CannotAcquireLockException e) {
+                log.warn("[Partitions] Timed out waiting for the lock to drop {}; retrying next run", name);
+                continue;
+            }
+            dropped++;
+            log.info("[Partitions] Dropped expired partition {}", name);
+        }
+
+        return dropped;
+    }
+
+    static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(DAY);
+    }
+
+    private void executeWithLockTimeout(String ddl) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("SET LOCAL lock_timeout = '" + lockTimeout.toMillis() + "ms'");
+            jdbcTemplate.execute(ddl);
+        });
+    }
+
+    private List<String> listPartitions() {
+        return jdbcTemplate.queryForList(LIST_PARTITIONS_SQL, String.class);
+    }
+}
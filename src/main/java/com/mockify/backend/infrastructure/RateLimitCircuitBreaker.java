@@ -0,0 +1,85 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.config.RateLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Circuit breaker around the Redis rate-limit calls.
+ *
+ * <p>{@code failure-threshold} consecutive failures open the circuit: rate
+ * limiting switches to {@link InMemoryRateLimiter} without touching Redis.
+ * After {@code open-duration} one caller probes Redis (half-open); success
+ * closes the circuit, failure keeps it open for another period.</p>
+ *
+ * <p>The mode is published as the {@code rate_limit.degraded} gauge (1 while
+ * not closed) and by {@link RateLimiterHealthIndicator}.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile long openedAtNanos;
+
+    @PostConstruct
+    void init() {
+        Gauge.builder("rate_limit.degraded", this, breaker -> breaker.isDegraded() ? 1 : 0)
+                .description("1 while rate limiting runs in memory because Redis is unavailable")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether the caller should go to Redis. Once the open period has passed,
+     * exactly one caller is let through as the half-open probe.
+     */
+    public boolean allowRequest() {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        long openNanos = properties.getFallback().getOpenDuration().toNanos();
+        return current == State.OPEN
+                && System.nanoTime() - openedAtNanos >= openNanos
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN);
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+        if (state.get() != State.CLOSED && state.getAndSet(State.CLOSED) != State.CLOSED) {
+            log.info("Redis is reachable again; rate limiting is back on Redis");
+        }
+    }
+
+    public void recordFailure(Exception e) {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (state.get() == State.HALF_OPEN || failures >= properties.getFallback().getFailureThreshold()) {
+            openedAtNanos = System.nanoTime();
+            if (state.getAndSet(State.OPEN) == State.CLOSED) {
+                log.error("Redis rate limiting failed {} time(s) in a row; switching to in-memory limits", failures, e);
+            }
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public boolean isDegraded() {
+        return state.get() != State.CLOSED;
+    }
+}
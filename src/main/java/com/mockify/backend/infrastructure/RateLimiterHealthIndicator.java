@@ -0,0 +1,28 @@
+package com.mockify.backend.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reports which store rate limiting currently runs on ({@code rateLimiter}
+ * component of {@code /actuator/health}).
+ *
+ * <p>Always UP: in-memory mode keeps serving traffic with per-node limits.
+ * Redis itself is covered by the built-in {@code redis} indicator.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimiterHealthIndicator implements HealthIndicator {
+
+    private final RateLimitCircuitBreaker circuitBreaker;
+
+    @Override
+    public Health health() {
+        return Health.up()
+                .withDetail("mode", circuitBreaker.isDegraded() ? "in-memory" : "redis")
+                .withDetail("circuit", circuitBreaker.getState())
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.exception.InternalServerException;
+import com.mockify.backend.service.MockAutoGenerateService.GenerationPlan;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+/**
+ * Generates large record counts on a dedicated ForkJoin pool.
+ *
+ * <p>The count is cut into chunks of {@value #CHUNK_SIZE} records. Each chunk
+ * is generated by one worker; chunks are handed to the sink in order on the
+ * calling thread, so writes stay inside the caller's transaction while later
+ * chunks are still being generated. At most {@code 2 × parallelism} chunks are
+ * in flight, which bounds memory for any count.</p>
+ *
+ * <p>With a seed, chunk {@code i} is generated from a seed derived from
+ * {@code (seed, i)} only. The dataset therefore depends on the schema, seed
+ * and count, never on the number of threads or their scheduling. Changing
+ * {@link #CHUNK_SIZE} changes seeded datasets.</p>
+ */
+@Slf4j
+@Component
+public class RecordGenerationEngine {
+
+    /**
+     * Records per chunk; part of the seeded-dataset contract.
+     */
+    static final int CHUNK_SIZE = 250;
+
+    // 0 = one worker per available processor
+    @Value("${mockify.records.generation-parallelism:0}")
+    private int parallelism;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    void init() {
+        int workers = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        pool = new ForkJoinPool(workers);
+        log.info("Record generation engine started with {} worker(s)", workers);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Generates {@code count} records and passes them to {@code sink} in chunks,
+     * in order. A {@code null} seed produces a random dataset.
+     */
+    public void generate(GenerationPlan plan, int count, Long seed, Consumer<List<Map<String, Object>>> sink) {
+        int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        // A single chunk is not worth the hand-off
+        if (chunks <= 1) {
+            if (count > 0) {
+                sink.accept(plan.generateChunk(count, chunkSeed(seed, 0)));
+            }
+            return;
+        }
+
+        int window = pool.getParallelism() * 2;
+        Deque<CompletableFuture<List<Map<String, Object>>>> inFlight = new ArrayDeque<>(window);
+        int submitted = 0;
+
+        try {
+            while (submitted < chunks || !inFlight.isEmpty()) {
+                while (submitted < chunks && inFlight.size() < window) {
+                    inFlight.addLast(submit(plan, count, seed, submitted++));
+                }
+                sink.accept(inFlight.removeFirst().join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            log.error("Record generation failed", e.getCause());
+            throw new InternalServerException("Record generation failed");
+        } finally {
+            inFlight.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private CompletableFuture<List<Map<String, Object>>> submit(GenerationPlan plan, int count, Long seed, int chunk) {
+        int size = Math.min(CHUNK_SIZE, count - chunk * CHUNK_SIZE);
+        Long chunkSeed = chunkSeed(seed, chunk);
+        return CompletableFuture.supplyAsync(() -> plan.generateChunk(size, chunkSeed), pool);
+    }
+
+    /**
+     * SplitMix64 finalizer over the chunk index, so neighbouring chunks get
+     * unrelated seeds.
+     */
+    static Long chunkSeed(Long seed, int chunk) {
+        if (seed == null) {
+            return null;
+        }
+        long z = seed + (chunk + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
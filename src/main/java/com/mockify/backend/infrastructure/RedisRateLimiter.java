@@ -1,62 +1,153 @@
 package com.mockify.backend.infrastructure;
 
+import com.mockify.backend.common.enums.RateLimitAlgorithm;
 import com.mockify.backend.dto.response.ratelimit.RateLimitResult;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class RedisRateLimiter {
 
+    /**
+     * Sliding-window / GCRA checks, evaluated server-side against the Redis
+     * clock, so node clock skew cannot shift windows. Spring runs it with
+     * EVALSHA and falls back to EVAL only when Redis has not cached it yet.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RATE_LIMIT_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rate_limit.lua"), List.class);
+
+    /** Hands unused leased permits back to the windows they were taken from. */
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/rate_limit_release.lua"), Long.class);
+
+    private static final int ARGS_PER_WINDOW = 3;
+    private static final int LEADING_ARGS = 2;
+
     private final RedisTemplate<String, String> stringRedisTemplate;
 
+    /**
+     * One rate-limit window: a Redis key with its limit, length and algorithm.
+     */
+    public record Window(String key, int limit, Duration window, RateLimitAlgorithm algorithm) {
+
+        public Window(String key, int limit, Duration window) {
+            this(key, limit, window, RateLimitAlgorithm.SLIDING_WINDOW);
+        }
+
+        public Window {
+            if (algorithm == null) {
+                algorithm = RateLimitAlgorithm.SLIDING_WINDOW;
+            }
+        }
+
+        // Each algorithm keeps a different Redis type, so switching a group's
+        // algorithm must not hit the other one's key (WRONGTYPE)
+        String redisKey() {
+            return algorithm == RateLimitAlgorithm.GCRA ? key + ":gcra" : key;
+        }
+    }
+
     /**
      * Sliding window rate limiter using Redis Sorted Set.
-     *
-     * Steps:
-     * 1. Remove old requests outside window
-     * 2. Count current requests
-     * 3. Allow or block request
-     * 4. Store current request timestamp
      */
     public RateLimitResult check(String key, int limit, Duration window) {
+        return check(List.of(new Window(key, limit, window)));
+    }
+
+    /**
+     * Checks every window in a single atomic round-trip.
+     *
+     * <p>The request is counted against all windows only if all of them admit
+     * it, so a request rejected by a later window does not consume quota in an
+     * earlier one. The result describes the first window that denied, or the
+     * last window when the request is allowed.</p>
+     */
+    public RateLimitResult check(List<Window> windows) {
+        return acquire(windows, 1).result();
+    }
+
+    /**
+     * Permits taken from Redis in one call. {@code granted} may be lower than
+     * requested when a window is close to its limit, and is 0 on denial.
+     * {@code headroom} is the smallest number of permits still available
+     * across all windows after the grant.
+     */
+    public record Lease(RateLimitResult result, int granted, long headroom, String member) {
+    }
 
-        long now = System.currentTimeMillis();
-        long windowStart = now - window.toMillis();
+    /**
+     * Takes up to {@code permits} permits from every window atomically, as
+     * many as all windows can admit. Unused permits can be handed back with
+     * {@link #release}.
+     */
+    public Lease acquire(List<Window> windows, int permits) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits must be positive: " + permits);
+        }
 
-        ZSetOperations<String, String> zSet = stringRedisTemplate.opsForZSet();
+        String member = UUID.randomUUID().toString();
 
-        // Remove expired requests from the window
-        zSet.removeRangeByScore(key, 0, windowStart);
+        List<?> reply = execute(RATE_LIMIT_SCRIPT, windows, member, permits);
+        if (reply == null || reply.size() < 5) {
+            throw new IllegalStateException("Unexpected rate-limit script reply: " + reply);
+        }
 
-        Long requestCount = zSet.zCard(key);
-        long count = requestCount == null ? 0 : requestCount;
+        int granted = (int) toLong(reply.get(0));
+        long resetMillis = toLong(reply.get(3));
 
-        boolean allowed = count < limit;
+        RateLimitResult result = new RateLimitResult(
+                granted > 0,
+                toLong(reply.get(1)),
+                Math.max(0, toLong(reply.get(2))),
+                // Window reset time (epoch seconds), rounded up
+                (resetMillis + 999) / 1000
+        );
+        return new Lease(result, granted, Math.max(0, toLong(reply.get(4))), member);
+    }
 
-        if (allowed) {
-            // Store current request timestamp
-            zSet.add(key, UUID.randomUUID().toString(), now);
+    /**
+     * Returns {@code unused} permits of a lease to every window it was taken from.
+     */
+    public void release(List<Window> windows, Lease lease, int unused) {
+        if (unused < 1) {
+            return;
+        }
+        execute(RELEASE_SCRIPT, windows, lease.member(), unused);
+    }
 
-            // Set TTL to prevent unused keys from staying forever
-            stringRedisTemplate.expire(key, window);
+    private <T> T execute(RedisScript<T> script, List<Window> windows, String member, int permits) {
+        if (windows.isEmpty()) {
+            throw new IllegalArgumentException("At least one rate-limit window is required");
         }
 
-        long remaining = Math.max(0, limit - (allowed ? count + 1 : count));
+        List<String> keys = new ArrayList<>(windows.size());
+        Object[] args = new Object[LEADING_ARGS + windows.size() * ARGS_PER_WINDOW];
+        args[0] = member;
+        args[1] = String.valueOf(permits);
 
-        // Window reset time (epoch seconds)
-        long resetTime = (now + window.toMillis()) / 1000;
+        for (int i = 0; i < windows.size(); i++) {
+            Window w = windows.get(i);
+            int base = LEADING_ARGS + i * ARGS_PER_WINDOW;
+            keys.add(w.redisKey());
+            args[base] = w.algorithm().name();
+            args[base + 1] = String.valueOf(w.limit());
+            args[base + 2] = String.valueOf(w.window().toMillis());
+        }
 
-        return new RateLimitResult(
-                allowed,
-                limit,
-                remaining,
-                resetTime
-        );
+        return stringRedisTemplate.execute(script, keys, args);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number n ? n.longValue() : Long.parseLong(value.toString());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,191 @@
+package com.mockify.backend.infrastructure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs a scheduled job on one node per tick, cluster-wide.
+ *
+ * <p>Every node fires the same cron tick; the first to take the job's lease in
+ * Redis ({@code SET NX PX}) runs it, the others skip. The lease is kept for at
+ * least {@code lock-at-least-for} after the run starts, so a node whose clock
+ * lags cannot run the same tick again, and expires after
+ * {@code lock-at-most-for} if its holder dies mid-run. Jobs must finish well
+ * within {@code lock-at-most-for}.</p>
+ *
+ * <p>If Redis is unreachable the job runs locally: every scheduled job is an
+ * idempotent cleanup, so duplicate runs cost work, not correctness.</p>
+ *
+ * <p>Tasks must not run inside a caller's transaction: the lease is released
+ * when {@code task} returns, so the task's own transactions have to have
+ * committed by then.</p>
+ *
+ * <p>Metrics, tagged by job: {@code scheduler.job.duration} (timer, by
+ * outcome) and {@code scheduler.job.skipped}, both per node, and the
+ * {@code scheduler.job.last_run} (epoch seconds) and
+ * {@code scheduler.job.last_duration} (seconds) gauges. The gauges are
+ * cluster-wide: each leased run is recorded next to the lease, in
+ * {@code scheduler:last-run:<job>}, and every node reads that record back once
+ * per tick, whether it ran the job or skipped it. Scrapes never touch Redis.
+ * Without Redis the gauges report this node's last run.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduledJobRunner {
+
+    private static final String KEY_PREFIX = "scheduler:lock:";
+    private static final String LAST_RUN_PREFIX = "scheduler:last-run:";
+    private static final List<Object> LAST_RUN_FIELDS = List.of("started_at_ms", "duration_ms");
+
+    // Token of a run that went ahead without a lease because Redis was unreachable
+    private static final String UNLOCKED = "";
+
+    /** Records the run, then releases or shortens a lease if the caller still holds it. */
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/job_lock_release.lua"), Long.class);
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mockify.scheduler.lock.enabled:true}")
+    private boolean lockEnabled;
+
+    @Value("${mockify.scheduler.lock.lock-at-most-for:10m}")
+    private Duration lockAtMostFor;
+
+    @Value("${mockify.scheduler.lock.lock-at-least-for:30s}")
+    private Duration lockAtLeastFor;
+
+    private final ConcurrentHashMap<String, JobStats> stats = new ConcurrentHashMap<>();
+
+    /**
+     * Runs {@code task} unless another node holds the job's lease. Failures are
+     * logged, not rethrown.
+     *
+     * @return whether the task ran on this node
+     */
+    public boolean runExclusively(String job, Runnable task) {
+        JobStats jobStats = stats.computeIfAbsent(job, this::register);
+
+        String token = lockEnabled ? tryAcquire(job) : null;
+        if (lockEnabled && token == null) {
+            jobStats.skipped.increment();
+            log.debug("[Scheduler] {} is running on another node; skipped", job);
+            readLastRun(job, jobStats);
+            return false;
+        }
+
+        long startMillis = System.currentTimeMillis();
+        long start = System.nanoTime();
+        String outcome = "completed";
+        try {
+            task.run();
+        } catch (Exception e) {
+            outcome = "failed";
+            log.error("[Scheduler] {} failed", job, e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            jobStats.lastRunMillis = startMillis;
+            jobStats.lastDurationMillis = elapsedNanos / 1_000_000;
+            Timer.builder("scheduler.job.duration")
+                    .description("Duration of scheduled job runs on this node")
+                    .tag("job", job)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(Duration.ofNanos(elapsedNanos));
+
+            if (token != null && !UNLOCKED.equals(token)) {
+                release(job, token, startMillis, elapsedNanos, outcome);
+                readLastRun(job, jobStats);
+            }
+        }
+        return true;
+    }
+
+    private String tryAcquire(String job) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue()
+                    .setIfAbsent(KEY_PREFIX + job, token, lockAtMostFor);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (RuntimeException e) {
+            log.warn("[Scheduler] Could not take the {} lease from Redis; running it on this node", job, e);
+            return UNLOCKED;
+        }
+    }
+
+    private void release(String job, String token, long startMillis, long elapsedNanos, String outcome) {
+        long elapsedMillis = elapsedNanos / 1_000_000;
+        long holdMillis = Math.max(0, lockAtLeastFor.toMillis() - elapsedMillis);
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + job, LAST_RUN_PREFIX + job),
+                    token, String.valueOf(holdMillis), String.valueOf(startMillis),
+                    String.valueOf(elapsedMillis), outcome);
+        } catch (RuntimeException e) {
+            // The lease expires on its own after lock-at-most-for
+            log.warn("[Scheduler] Could not release the {} lease", job, e);
+        }
+    }
+
+    private JobStats register(String job) {
+        JobStats jobStats = new JobStats(Counter.builder("scheduler.job.skipped")
+                .description("Ticks skipped because another node held the job's lease")
+                .tag("job", job)
+                .register(meterRegistry));
+
+        Gauge.builder("scheduler.job.last_run", jobStats, s -> s.lastRunMillis / 1000.0)
+                .description("Start of the job's last run on any node, epoch seconds")
+                .tag("job", job)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("scheduler.job.last_duration", jobStats, s -> s.lastDurationMillis / 1000.0)
+                .description("Duration of the job's last run on any node")
+                .tag("job", job)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        return jobStats;
+    }
+
+    /**
+     * Replaces the node's last run with the job's last run cluster-wide, if
+     * Redis has one. Left as is when Redis cannot be reached.
+     */
+    private void readLastRun(String job, JobStats jobStats) {
+        try {
+            List<Object> values = stringRedisTemplate.opsForHash().multiGet(LAST_RUN_PREFIX + job, LAST_RUN_FIELDS);
+            if (values != null && values.size() == 2 && values.get(0) != null && values.get(1) != null) {
+                jobStats.lastRunMillis = Double.parseDouble(values.get(0).toString());
+                jobStats.lastDurationMillis = Double.parseDouble(values.get(1).toString());
+            }
+        } catch (RuntimeException e) {
+            log.debug("[Scheduler] Could not read the last {} run from Redis", job, e);
+        }
+    }
+
+    private static final class JobStats {
+
+        private final Counter skipped;
+        private volatile double lastRunMillis = Double.NaN;
+        private volatile double lastDurationMillis = Double.NaN;
+
+        private JobStats(Counter skipped) {
+            this.skipped = skipped;
+        }
+    }
+}
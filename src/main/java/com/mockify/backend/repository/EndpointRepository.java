@@ -1,6 +1,7 @@
 package com.mockify.backend.repository;
 
 import com.mockify.backend.model.Endpoint;
+import com.mockify.backend.security.SchemaAccess;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -23,6 +24,25 @@ public interface EndpointRepository extends JpaRepository<Endpoint, UUID> {
      */
     Optional<Endpoint> findByFullPath(String fullPath);
 
+    /**
+     * Resolve-and-authorize lookup for a schema path in one statement:
+     * schema, project and organization ids plus the caller's membership
+     * role (null when the caller is not a member).
+     */
+    @Query("""
+        SELECT new com.mockify.backend.security.SchemaAccess(
+            s.id, p.id, p.organization.id, m.role
+        )
+        FROM Endpoint e
+        JOIN e.schema s
+        JOIN s.project p
+        LEFT JOIN OrganizationMember m
+            ON m.organization.id = p.organization.id AND m.user.id = :userId
+        WHERE e.fullPath = :fullPath
+          AND e.resourceType = com.mockify.backend.model.Endpoint.ResourceType.SCHEMA
+    """)
+    Optional<SchemaAccess> findSchemaAccess(@Param("fullPath") String fullPath, @Param("userId") UUID userId);
+
     /**
      * Check if path exists
      */
@@ -1,19 +1,27 @@
 package com.mockify.backend.repository;
 
+import com.mockify.backend.dto.response.record.MockRecordExportRow;
 import com.mockify.backend.model.MockRecord;
+import com.mockify.backend.security.ResourceContext;
+import com.mockify.backend.util.RecordCursor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface MockRecordRepository extends JpaRepository<MockRecord, UUID> {
@@ -21,8 +29,54 @@ public interface MockRecordRepository extends JpaRepository<MockRecord, UUID> {
     // Get all records under a schema
     Page<MockRecord> findByMockSchema_Id(UUID schemaId, Pageable pageable);
 
-    // Find expired records before given time
-    List<MockRecord> findByExpiresAtBefore(LocalDateTime now);
+    // Keyset pagination, newest first. Slice fetches size + 1 rows instead of running a COUNT.
+    // Served by idx_mock_records_schema_created_id (V13).
+    @Query("""
+        SELECT r FROM MockRecord r
+        WHERE r.mockSchema.id = :schemaId
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    Slice<MockRecord> findFirstSlice(@Param("schemaId") UUID schemaId, Pageable pageable);
+
+    // Next slice after (createdAt, id). The redundant createdAt <= bound gives the
+    // planner an index range condition alongside the tie-break on id.
+    @Query("""
+        SELECT r FROM MockRecord r
+        WHERE r.mockSchema.id = :schemaId
+          AND r.createdAt <= :createdAt
+          AND (r.createdAt < :createdAt OR r.id < :id)
+        ORDER BY r.createdAt DESC, r.id DESC
+    """)
+    Slice<MockRecord> findSliceAfter(
+            @Param("schemaId") UUID schemaId,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") UUID id,
+            Pageable pageable);
+
+    // First slice when cursor is null, otherwise the slice following it
+    default Slice<MockRecord> findSlice(UUID schemaId, RecordCursor cursor, Pageable pageable) {
+        return cursor == null
+                ? findFirstSlice(schemaId, pageable)
+                : findSliceAfter(schemaId, cursor.createdAt(), cursor.id(), pageable);
+    }
+
+    // Forward-only cursor over every record in a schema (export).
+    // Must be consumed inside a transaction; the fetch size keeps the Postgres
+    // driver from buffering the whole result set.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+        SELECT new com.mockify.backend.dto.response.record.MockRecordExportRow(
+            r.id, r.data, r.createdAt, r.expiresAt
+        )
+        FROM MockRecord r
+        WHERE r.mockSchema.id = :schemaId
+        ORDER BY r.createdAt, r.id
+    """)
+    Stream<MockRecordExportRow> streamExportRows(@Param("schemaId") UUID schemaId);
+
+    // Record scoped to its schema, with the schema fetched for the response mapping
+    @EntityGraph(attributePaths = "mockSchema")
+    Optional<MockRecord> findByIdAndMockSchema_Id(UUID id, UUID schemaId);
 
     // Delete all records under a schema
     void deleteByMockSchema_Id(UUID schemaId);
@@ -30,22 +84,31 @@ public interface MockRecordRepository extends JpaRepository<MockRecord, UUID> {
     // Count all records
     long count();
 
-    // Delete expired mock data
+    // Delete up to :limit expired records in a transaction of their own; rows
+    // locked by concurrent writers are skipped and left for the next chunk.
+    // Matched on the full key (id, expires_at), and the outer bound on
+    // expires_at, let Postgres prune the partitions that hold no expired rows.
+    @Transactional
     @Modifying
+    @Query(value = """
+        DELETE FROM mock_records
+        WHERE expires_at < :now
+          AND (id, expires_at) IN (
+            SELECT id, expires_at FROM mock_records
+            WHERE expires_at < :now
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+        )
+    """, nativeQuery = true)
+    int deleteExpiredMockRecordsChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Id-only context for permission evaluation (no entity load)
     @Query("""
-        DELETE FROM MockRecord r
-        WHERE r.expiresAt < :now
+        SELECT new com.mockify.backend.security.ResourceContext(p.organization.id, p.id)
+        FROM MockRecord r
+        JOIN r.mockSchema s
+        JOIN s.project p
+        WHERE r.id = :id
     """)
-    int deleteExpiredMockRecords(LocalDateTime now);
-
-
-    // Eager-load full hierarchy for permission evaluation (avoids LazyInitializationException)
-    @EntityGraph(attributePaths = {
-            "mockSchema",
-            "mockSchema.project",
-            "mockSchema.project.organization",
-            "mockSchema.project.organization.owner"
-    })
-    Optional<MockRecord> findWithContextById(@Param("id") UUID id);
-
+    Optional<ResourceContext> findResourceContextById(@Param("id") UUID id);
 }
@@ -1,10 +1,11 @@
 package com.mockify.backend.repository;
 
 import com.mockify.backend.model.MockSchema;
+import com.mockify.backend.security.ResourceContext;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -31,11 +32,12 @@ public interface MockSchemaRepository extends JpaRepository<MockSchema, UUID> {
 
     boolean existsBySlugAndProjectId(String slug, UUID projectId);
 
-    // Eager-load full hierarchy for permission evaluation (avoids LazyInitializationException)
-    @EntityGraph(attributePaths = {
-            "project",
-            "project.organization",
-            "project.organization.owner"
-    })
-    Optional<MockSchema> findWithContextById(@Param("id") UUID id);
-}
\ No newline at end of file
+    // Id-only context for permission evaluation (no entity load)
+    @Query("""
+        SELECT new com.mockify.backend.security.ResourceContext(p.organization.id, p.id)
+        FROM MockSchema s
+        JOIN s.project p
+        WHERE s.id = :id
+    """)
+    Optional<ResourceContext> findResourceContextById(@Param("id") UUID id);
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -46,6 +47,7 @@ public interface OrganizationInvitationRepository extends JpaRepository<Organiza
             @Param("tokenHash") String tokenHash,
             @Param("now") LocalDateTime now);
 
+    @Transactional
     @Modifying
     @Query("DELETE FROM OrganizationInvitation i WHERE i.expiresAt < :now AND i.acceptedAt IS NULL AND i.cancelledAt IS NULL")
     int deleteExpiredInvitations(@Param("now") LocalDateTime now);
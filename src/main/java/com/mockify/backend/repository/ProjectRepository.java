@@ -1,6 +1,7 @@
 package com.mockify.backend.repository;
 
 import com.mockify.backend.model.Project;
+import com.mockify.backend.security.ResourceContext;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -31,12 +32,11 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
 
     boolean existsBySlugAndOrganizationId(String slug, UUID organizationId);
 
-    // Eager-load org + owner for permission evaluation (avoids LazyInitializationException)
+    // Id-only context for permission evaluation (no entity load)
     @Query("""
-        SELECT p FROM Project p
-        JOIN FETCH p.organization o
-        JOIN FETCH o.owner
+        SELECT new com.mockify.backend.security.ResourceContext(p.organization.id, p.id)
+        FROM Project p
         WHERE p.id = :id
     """)
-    Optional<Project> findByIdWithOrgAndOwner(@Param("id") UUID id);
-}
\ No newline at end of file
+    Optional<ResourceContext> findResourceContextById(@Param("id") UUID id);
+}
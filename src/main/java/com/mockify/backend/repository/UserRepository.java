@@ -5,6 +5,8 @@ import com.mockify.backend.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -36,4 +38,8 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Page<User> findByRole(UserRole role, Pageable pageable);
 
     Page<User> findByEmailContainingIgnoreCaseAndRole(String email, UserRole role, Pageable pageable);
+
+    // Role only, for JWT authentication (no entity load)
+    @Query("SELECT u.role FROM User u WHERE u.id = :id")
+    Optional<UserRole> findRoleById(@Param("id") UUID id);
 }
\ No newline at end of file
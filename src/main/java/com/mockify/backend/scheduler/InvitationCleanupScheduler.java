@@ -1,6 +1,7 @@
 // src/main/java/com/mockify/backend/scheduler/InvitationCleanupScheduler.java
 package com.mockify.backend.scheduler;
 
+import com.mockify.backend.infrastructure.ScheduledJobRunner;
 import com.mockify.backend.repository.OrganizationInvitationRepository;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -8,7 +9,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
@@ -18,22 +18,22 @@ import java.time.LocalDateTime;
 public class InvitationCleanupScheduler {
 
     private final OrganizationInvitationRepository invitationRepo;
+    private final ScheduledJobRunner jobRunner;
 
     @Value("${cleanup.invitations.enabled:true}")
     private boolean enabled;
 
+    // Not @Transactional: the delete commits on its own, inside the lease
     @Scheduled(cron = "${cleanup.invitations.cron}")
-    @Transactional
     public void cleanExpiredInvitations() {
         if (!enabled) return;
-        try {
+        // One node per tick cluster-wide; failures are logged by the runner
+        jobRunner.runExclusively("invitation-cleanup", () -> {
             int deleted = invitationRepo.deleteExpiredInvitations(LocalDateTime.now());
             if (deleted > 0) {
                 log.info("[Cleanup] Deleted {} expired invitations", deleted);
             }
-        } catch (Exception ex) {
-            log.error("[Cleanup] Invitation cleanup failed", ex);
-        }
+        });
     }
 
     @PostConstruct
@@ -1,6 +1,7 @@
 package com.mockify.backend.scheduler;
 
 import com.mockify.backend.service.MockRecordCleanupService;
+import com.mockify.backend.infrastructure.ScheduledJobRunner;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Component;
 public class MockDataCleanupScheduler {
 
     private final MockRecordCleanupService cleanupService;
+    private final ScheduledJobRunner jobRunner;
 
     @Value("${cleanup.mock-data.enabled:true}")
     private boolean enabled;
@@ -24,15 +26,17 @@ public class MockDataCleanupScheduler {
             return;
         }
 
-        try {
-            long start = System.currentTimeMillis();
-            int deleted = cleanupService.cleanExpiredMockRecords();
-            long duration = System.currentTimeMillis() - start;
+        // One node per tick cluster-wide; failures are logged by the runner
+        jobRunner.runExclusively("mock-data-cleanup", () -> {
+            MockRecordCleanupService.CleanupRun run = cleanupService.cleanExpiredMockRecords();
 
-            log.info("[Cleanup] Deleted {} expired mock records in {} ms", deleted, duration);
-        } catch (Exception ex) {
-            log.error("[Cleanup] Mock data cleanup failed", ex);
-        }
+            log.info("[Cleanup] Dropped {} expired partition(s), deleted {} expired mock records in {} chunk(s) in {} ms",
+                    run.partitionsDropped(), run.deleted(), run.chunks(), run.duration().toMillis());
+
+            if (run.budgetExhausted()) {
+                log.warn("[Cleanup] Mock data cleanup hit its time budget; remaining expired records wait for the next run");
+            }
+        });
     }
 
     // For Debugging
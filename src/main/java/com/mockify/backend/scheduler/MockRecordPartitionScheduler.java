@@ -0,0 +1,48 @@
+package com.mockify.backend.scheduler;
+
+import com.mockify.backend.infrastructure.MockRecordPartitionManager;
+import com.mockify.backend.infrastructure.ScheduledJobRunner;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MockRecordPartitionScheduler {
+
+    private final MockRecordPartitionManager partitionManager;
+    private final ScheduledJobRunner jobRunner;
+
+    @Value("${cleanup.mock-record-partitions.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cleanup.mock-record-partitions.premake-days:14}")
+    private int premakeDays;
+
+    // Also on startup, so records written after a long outage do not land in the default partition
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${cleanup.mock-record-partitions.cron}")
+    public void createUpcomingPartitions() {
+        if (!enabled) {
+            return;
+        }
+
+        // One node per tick cluster-wide; failures are logged by the runner
+        jobRunner.runExclusively("mock-record-partitions",
+                () -> partitionManager.ensurePartitions(LocalDate.now(), premakeDays));
+    }
+
+    // For Debugging
+    @PostConstruct
+    public void init() {
+        log.info("MockRecordPartitionScheduler initialized");
+    }
+}
@@ -1,6 +1,7 @@
 package com.mockify.backend.scheduler;
 
 import com.mockify.backend.service.PasswordResetTokenCleanupService;
+import com.mockify.backend.infrastructure.ScheduledJobRunner;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Component;
 public class PasswordResetTokenCleanupScheduler {
 
     private final PasswordResetTokenCleanupService cleanupService;
+    private final ScheduledJobRunner jobRunner;
 
     @Value("${cleanup.password-token.enabled:true}")
     private boolean enabled;
@@ -24,15 +26,14 @@ public class PasswordResetTokenCleanupScheduler {
             return;
         }
 
-        try {
+        // One node per tick cluster-wide; failures are logged by the runner
+        jobRunner.runExclusively("password-token-cleanup", () -> {
             long start = System.currentTimeMillis();
             int deleted = cleanupService.cleanExpiredTokens();
             long duration = System.currentTimeMillis() - start;
 
             log.info("[Cleanup] Deleted {} expired password reset tokens in {} ms", deleted, duration);
-        } catch (Exception ex) {
-            log.error("[Cleanup] Password token cleanup failed", ex);
-        }
+        });
     }
 
     // For Debugging
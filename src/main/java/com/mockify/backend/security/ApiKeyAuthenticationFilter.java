@@ -1,10 +1,8 @@
 package com.mockify.backend.security;
 
 import com.mockify.backend.config.ApiKeyConfig;
-import com.mockify.backend.model.ApiKey;
+import com.mockify.backend.infrastructure.ApiKeyUsageTracker;
 import com.mockify.backend.model.ApiKeyPermission;
-import com.mockify.backend.repository.ApiKeyPermissionRepository;
-import com.mockify.backend.repository.ApiKeyRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,9 +18,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -32,19 +28,20 @@ import java.util.Set;
  * <p>Runs after the JWT filter. If a JWT is already present the filter skips
  * immediately, so JWT always takes precedence.</p>
  *
- * <p>On a successful HMAC match the filter eagerly loads all
- * {@link ApiKeyPermission} rows for the key and stores them inside the
- * {@link ApiKeyAuthenticationToken}.</p>
+ * <p>Verification is delegated to {@link ApiKeyPrincipalResolver}, which carries
+ * all {@link ApiKeyPermission} rows for the key; they are stored inside the
+ * {@link ApiKeyAuthenticationToken}. Repeat requests with the same key are
+ * served from its cache without a database round-trip.</p>
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
 
-    private final ApiKeyRepository apiKeyRepository;
-    private final ApiKeyPermissionRepository apiKeyPermissionRepository;
+    private final ApiKeyPrincipalResolver principalResolver;
     private final ApiKeyCryptoService cryptoService;
     private final ApiKeyConfig apiKeyConfig;
+    private final ApiKeyUsageTracker usageTracker;
 
     private static final String API_KEY_HEADER = "X-API-Key";
     private static final String AUTHORIZATION_HEADER = "Authorization";
@@ -93,40 +90,29 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            Optional<ApiKey> validatedKey = authenticateByKeyHash(apiKey);
+            Optional<ApiKeyPrincipal> validatedKey = principalResolver.resolve(apiKey);
 
             if (validatedKey.isPresent()) {
-                ApiKey key = validatedKey.get();
-
-                if (!key.isValid()) {
-                    log.warn("API key failed validity check: keyId={}", key.getId());
-                    filterChain.doFilter(request, response);
-                    return;
-                }
-
-                // Load permissions eagerly so MockifyPermissionEvaluator can use them
-                // without extra DB calls during @PreAuthorize evaluation.
-                List<ApiKeyPermission> permissions =
-                        apiKeyPermissionRepository.findByApiKeyId(key.getId());
+                ApiKeyPrincipal key = validatedKey.get();
 
                 ApiKeyAuthenticationToken authentication = new ApiKeyAuthenticationToken(
-                        key.getId(),
-                        key.getCreatedBy().getId(),
-                        key.getOrganization().getId(),
-                        key.getProject() != null ? key.getProject().getId() : null,
-                        permissions,
+                        key.apiKeyId(),
+                        key.ownerId(),
+                        key.organizationId(),
+                        key.projectId(),
+                        key.permissions(),
                         Collections.singletonList(new SimpleGrantedAuthority("ROLE_API_KEY")),
-                        key.getRateLimitPerMinute()
+                        key.rateLimitPerMinute()
                 );
 
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                // Update last used timestamp asynchronously (don't block request)
-                updateLastUsedAsync(key);
+                // Write-behind: flushed in batches off the request thread
+                usageTracker.recordUse(key.apiKeyId());
 
                 log.debug("API key authenticated: keyId={}, org={}, permissions={}",
-                        key.getId(), key.getOrganization().getId(), permissions.size());
+                        key.apiKeyId(), key.organizationId(), key.permissions().size());
 
             } else {
                 log.warn("API key authentication failed from IP: {}", request.getRemoteAddr());
@@ -159,48 +145,6 @@ public class ApiKeyAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    private Optional<ApiKey> authenticateByKeyHash(String apiKey) {
-        try {
-            String keyPrefix = cryptoService.extractKeyPrefix(apiKey);
-            List<ApiKey> candidates = apiKeyRepository.findByKeyPrefixAndActive(keyPrefix, LocalDateTime.now());
-
-            if (candidates.isEmpty()) {
-                log.debug("No active API keys found with prefix: {}", keyPrefix);
-                return Optional.empty();
-            }
-
-            for (ApiKey candidate : candidates) {
-                String orgSecret = cryptoService.generateOrgSecret(
-                        candidate.getOrganization().getId().toString(),
-                        apiKeyConfig.getSecret()
-                );
-                if (cryptoService.verifyApiKey(apiKey, candidate.getKeyHash(), orgSecret)) {
-                    return Optional.of(candidate);
-                }
-            }
-
-            log.debug("No HMAC match found among {} candidate key(s)", candidates.size());
-            return Optional.empty();
-
-        } catch (Exception e) {
-            log.error("Error during key hash authentication", e);
-            return Optional.empty();
-        }
-    }
-
-    /**
-     * TODO: In production, use @Async or a message queue.
-     * For now, simple synchronous update — acceptable for low traffic.
-     */
-    private void updateLastUsedAsync(ApiKey key) {
-        try {
-            key.markAsUsed();
-            apiKeyRepository.save(key);
-        } catch (Exception e) {
-            log.warn("Failed to update API key last-used timestamp: keyId={}", key.getId(), e);
-        }
-    }
-
     /**
      * Skip API key authentication for:
      *  - Public auth endpoints
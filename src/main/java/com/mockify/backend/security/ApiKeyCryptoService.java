@@ -1,5 +1,7 @@
 package com.mockify.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -12,11 +14,18 @@ import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.Base64;
 import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 /**
  * Cryptographic service for API key generation and hashing
  * Uses HMAC-SHA256 for secure, deterministic key hashing
+ *
+ * <p>Hot-path setup is paid once per secret: each thread keeps a small LRU of
+ * initialized {@link Mac} instances (no provider lookup or key setup per call),
+ * and derived organization secrets are memoized. Verification compares raw
+ * digest bytes.</p>
  */
 @Service
 @Slf4j
@@ -32,6 +41,26 @@ public class ApiKeyCryptoService {
     private static final String KEY_PREFIX_TEST = "mk_test_";
     private static final int KEY_ENTROPY_BYTES = 32; // 256 bits
 
+    private static final int MAX_CACHED_ORG_SECRETS = 10_000;
+    private static final int MACS_PER_THREAD = 32;
+
+    /**
+     * Per-thread secret → initialized Mac. {@code doFinal} resets a Mac, so an
+     * instance can be reused for the next call on the same thread.
+     */
+    private final ThreadLocal<Map<String, Mac>> threadMacs = ThreadLocal.withInitial(() ->
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Mac> eldest) {
+                    return size() > MACS_PER_THREAD;
+                }
+            });
+
+    /** (organizationId, globalSecret) → derived organization secret. */
+    private final Cache<OrgSecretKey, String> orgSecrets = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_ORG_SECRETS)
+            .build();
+
     /**
      * Generate a new API key with cryptographically secure randomness
      *
@@ -67,23 +96,7 @@ public class ApiKeyCryptoService {
             throw new IllegalArgumentException("Secret must not be null or blank");
         }
 
-        try {
-            Mac hmac = Mac.getInstance(HMAC_ALGORITHM);
-            SecretKeySpec secretKey = new SecretKeySpec(
-                    secret.getBytes(StandardCharsets.UTF_8),
-                    HMAC_ALGORITHM
-            );
-            hmac.init(secretKey);
-
-            byte[] hashBytes = hmac.doFinal(apiKey.getBytes(StandardCharsets.UTF_8));
-
-            // Return hex-encoded hash
-            return HexFormat.of().formatHex(hashBytes);
-
-        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
-            log.error("Failed to hash API key", e);
-            throw new IllegalStateException("Cryptographic error during key hashing", e);
-        }
+        return HexFormat.of().formatHex(hmac(apiKey, secret));
     }
 
     /**
@@ -103,13 +116,15 @@ public class ApiKeyCryptoService {
             return false;
         }
 
-        String computedHash = hashApiKey(apiKey, secret);
+        byte[] expected;
+        try {
+            expected = HexFormat.of().parseHex(storedHash);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
 
         // Use constant-time comparison to prevent timing attacks
-        return MessageDigest.isEqual(
-                computedHash.getBytes(StandardCharsets.UTF_8),
-                storedHash.getBytes(StandardCharsets.UTF_8)
-        );
+        return MessageDigest.isEqual(hmac(apiKey, secret), expected);
     }
 
     /**
@@ -159,7 +174,25 @@ public class ApiKeyCryptoService {
             throw new IllegalArgumentException("Global secret must not be null or blank");
         }
 
-        String input = organizationId + ":api-key";
-        return hashApiKey(input, globalSecret);
+        return orgSecrets.get(new OrgSecretKey(organizationId, globalSecret),
+                key -> hashApiKey(key.organizationId() + ":api-key", key.globalSecret()));
+    }
+
+    private byte[] hmac(String input, String secret) {
+        Mac mac = threadMacs.get().computeIfAbsent(secret, ApiKeyCryptoService::initMac);
+        return mac.doFinal(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Mac initMac(String secret) {
+        try {
+            Mac hmac = Mac.getInstance(HMAC_ALGORITHM);
+            hmac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            return hmac;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            log.error("Failed to initialize HMAC", e);
+            throw new IllegalStateException("Cryptographic error during key hashing", e);
+        }
     }
+
+    private record OrgSecretKey(String organizationId, String globalSecret) {}
 }
\ No newline at end of file
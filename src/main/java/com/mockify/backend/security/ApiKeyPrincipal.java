@@ -0,0 +1,34 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.model.ApiKeyPermission;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable snapshot of a verified API key: everything the filter needs to
+ * build an {@link ApiKeyAuthenticationToken} without touching the database.
+ *
+ * <p>{@code permissions} holds detached copies (no back-reference to the key
+ * entity), so a cached principal is safe to share across requests.</p>
+ */
+public record ApiKeyPrincipal(
+        UUID apiKeyId,
+        UUID ownerId,
+        UUID organizationId,
+        UUID projectId,
+        List<ApiKeyPermission> permissions,
+        int rateLimitPerMinute,
+        LocalDateTime expiresAt
+) {
+
+    public ApiKeyPrincipal {
+        permissions = List.copyOf(permissions);
+    }
+
+    /** Revocation evicts the cache, so only expiry has to be checked on a hit. */
+    public boolean isExpiredAt(LocalDateTime now) {
+        return expiresAt != null && expiresAt.isBefore(now);
+    }
+}
@@ -0,0 +1,172 @@
+package com.mockify.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mockify.backend.config.ApiKeyConfig;
+import com.mockify.backend.model.ApiKey;
+import com.mockify.backend.model.ApiKeyPermission;
+import com.mockify.backend.repository.ApiKeyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Verifies a presented API key and caches the result.
+ *
+ * <p>A miss runs the prefix lookup and the per-candidate HMAC comparison; a
+ * hit costs one SHA-256 of the presented key and no database access. Only
+ * successful verifications are cached, keyed by that digest so raw keys never
+ * sit in memory.</p>
+ *
+ * <p>{@code ApiKeyServiceImpl} calls {@link #evict} when a key is updated,
+ * revoked, rotated or deleted. The TTL is the backstop for other nodes.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiKeyPrincipalResolver {
+
+    private final ApiKeyRepository apiKeyRepository;
+    private final ApiKeyCryptoService cryptoService;
+    private final ApiKeyConfig apiKeyConfig;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mockify.cache.api-key.max-size:10000}")
+    private long maxSize;
+
+    @Value("${mockify.cache.api-key.ttl:1m}")
+    private Duration ttl;
+
+    private Cache<String, ApiKeyPrincipal> cache;
+
+    @PostConstruct
+    void initCache() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "security.api-key");
+    }
+
+    /**
+     * Returns the principal for a well-formed raw key, or empty if no active,
+     * unexpired key matches.
+     */
+    public Optional<ApiKeyPrincipal> resolve(String rawApiKey) {
+        String digest = sha256(rawApiKey);
+        LocalDateTime now = LocalDateTime.now();
+
+        ApiKeyPrincipal cached = cache.getIfPresent(digest);
+        if (cached != null) {
+            if (!cached.isExpiredAt(now)) {
+                return Optional.of(cached);
+            }
+            cache.invalidate(digest);
+            log.warn("API key failed validity check: keyId={}", cached.apiKeyId());
+            return Optional.empty();
+        }
+
+        Optional<ApiKeyPrincipal> verified = verify(rawApiKey, now);
+        verified.ifPresent(principal -> cache.put(digest, principal));
+        return verified;
+    }
+
+    /**
+     * Drops every cached principal for the key now and again after the
+     * surrounding transaction commits, so a concurrent request cannot re-cache
+     * the pre-commit state.
+     */
+    public void evict(UUID apiKeyId) {
+        evictNow(apiKeyId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(apiKeyId);
+                }
+            });
+        }
+    }
+
+    private void evictNow(UUID apiKeyId) {
+        cache.asMap().values().removeIf(principal -> principal.apiKeyId().equals(apiKeyId));
+    }
+
+    private Optional<ApiKeyPrincipal> verify(String rawApiKey, LocalDateTime now) {
+        String keyPrefix = cryptoService.extractKeyPrefix(rawApiKey);
+        List<ApiKey> candidates = apiKeyRepository.findByKeyPrefixAndActive(keyPrefix, now);
+
+        if (candidates.isEmpty()) {
+            log.debug("No active API keys found with prefix: {}", keyPrefix);
+            return Optional.empty();
+        }
+
+        for (ApiKey candidate : candidates) {
+            String orgSecret = cryptoService.generateOrgSecret(
+                    candidate.getOrganization().getId().toString(),
+                    apiKeyConfig.getSecret()
+            );
+            if (cryptoService.verifyApiKey(rawApiKey, candidate.getKeyHash(), orgSecret)) {
+                if (!candidate.isValid()) {
+                    log.warn("API key failed validity check: keyId={}", candidate.getId());
+                    return Optional.empty();
+                }
+                return Optional.of(toPrincipal(candidate));
+            }
+        }
+
+        log.debug("No HMAC match found among {} candidate key(s)", candidates.size());
+        return Optional.empty();
+    }
+
+    // Permissions are fetch-joined by findByKeyPrefixAndActive
+    private ApiKeyPrincipal toPrincipal(ApiKey key) {
+        List<ApiKeyPermission> permissions = key.getPermissions().stream()
+                .map(p -> ApiKeyPermission.builder()
+                        .id(p.getId())
+                        .permission(p.getPermission())
+                        .resourceType(p.getResourceType())
+                        .resourceId(p.getResourceId())
+                        .createdAt(p.getCreatedAt())
+                        .build())
+                .toList();
+
+        return new ApiKeyPrincipal(
+                key.getId(),
+                key.getCreatedBy().getId(),
+                key.getOrganization().getId(),
+                key.getProject() != null ? key.getProject().getId() : null,
+                permissions,
+                key.getRateLimitPerMinute(),
+                key.getExpiresAt()
+        );
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.mockify.backend.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mockify.backend.common.enums.RateLimitAlgorithm;
 import com.mockify.backend.dto.response.error.ErrorResponse;
+import com.mockify.backend.dto.response.ratelimit.RateLimitResult;
+import com.mockify.backend.infrastructure.LeasedRateLimiter;
+import com.mockify.backend.infrastructure.RedisRateLimiter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -10,7 +14,6 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.annotation.Order;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,24 +23,24 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 
 /**
- * Sliding-window rate limiter for API key authenticated requests.
+ * Per-key rate limiter for API key authenticated requests.
  *
  * <p>Runs immediately after {@link ApiKeyAuthenticationFilter} (Order 2).
  * Only applies to requests that carry a valid {@link ApiKeyAuthenticationToken};
  * JWT-authenticated and unauthenticated requests pass through untouched.</p>
  *
- * <h3>Algorithm — Redis atomic sliding window</h3>
+ * <h3>Algorithm — GCRA via {@link LeasedRateLimiter}</h3>
  * <pre>
- *   key  = "rate_limit:{apiKeyId}:{windowStart}"   (windowStart = epoch-second / 60)
- *   INCR key          → current count in this 1-minute bucket
- *   EXPIRE key 120s   → keep previous window alive for soft-overlap reads
+ *   key    = "rate_limit:{apiKeyId}"   (one Redis string per key)
+ *   limit  = rateLimitPerMinute, burst of the same size
  * </pre>
- * <p>Two buckets (current + previous minute) are summed to give a smooth
- * sliding-window count with no hard boundary spikes.</p>
+ * <p>Permits are leased from Redis in chunks and spent locally, so a key well
+ * below its limit costs one Redis call per chunk rather than per request.
+ * While Redis is unavailable each node enforces the limit in memory.</p>
  *
  * <h3>Response headers</h3>
  * <ul>
@@ -53,11 +56,9 @@ import java.util.concurrent.TimeUnit;
 public class ApiKeyRateLimitFilter extends OncePerRequestFilter {
 
     private static final String RATE_LIMIT_KEY_PREFIX = "rate_limit:";
-    /** Redis TTL: two full minutes keeps the previous-window bucket readable. */
-    private static final long BUCKET_TTL_SECONDS = 120;
-    private static final int  WINDOW_SECONDS      = 60;
+    private static final Duration WINDOW = Duration.ofMinutes(1);
 
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final LeasedRateLimiter rateLimiter;
     private final ObjectMapper objectMapper;
 
     // -------------------------------------------------------------------------
@@ -78,89 +79,52 @@ public class ApiKeyRateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
-        UUID    apiKeyId = token.getApiKeyId();
-        int     limit    = token.getRateLimitPerMinute();
-        long    now      = System.currentTimeMillis() / 1_000L;   // epoch seconds
-        long    window   = now / WINDOW_SECONDS;                   // current 1-min bucket index
+        UUID apiKeyId = token.getApiKeyId();
+        int  limit    = token.getRateLimitPerMinute();
 
-        long currentCount  = increment(apiKeyId, window);
-        long previousCount = getCount(apiKeyId, window - 1);
-        long totalCount    = currentCount + previousCount;
-
-        long windowResetAt = (window + 1) * WINDOW_SECONDS;       // next bucket boundary
-        long remaining     = Math.max(0L, limit - totalCount);
+        RateLimitResult result = check(apiKeyId, limit);
+        if (result == null) {
+            // Fail open: the limiter already falls back to in-memory limits
+            // when Redis is down, so this only covers unexpected errors
+            filterChain.doFilter(request, response);
+            return;
+        }
 
         // Always set informational headers
-        response.setHeader("X-RateLimit-Limit",     String.valueOf(limit));
-        response.setHeader("X-RateLimit-Remaining", String.valueOf(remaining));
-        response.setHeader("X-RateLimit-Reset",     String.valueOf(windowResetAt));
+        response.setHeader("X-RateLimit-Limit",     String.valueOf(result.limit()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(result.remaining()));
+        response.setHeader("X-RateLimit-Reset",     String.valueOf(result.resetEpochSec()));
 
-        if (totalCount > limit) {
-            long retryAfter = windowResetAt - now;
+        if (!result.allowed()) {
+            long now        = System.currentTimeMillis() / 1_000L;   // epoch seconds
+            long retryAfter = Math.max(1L, result.resetEpochSec() - now);
             response.setHeader("Retry-After", String.valueOf(retryAfter));
 
-            log.warn("Rate limit exceeded: apiKeyId={}, count={}/{}, ip={}",
-                    apiKeyId, totalCount, limit, request.getRemoteAddr());
+            log.warn("Rate limit exceeded: apiKeyId={}, limit={}, ip={}",
+                    apiKeyId, limit, request.getRemoteAddr());
 
             sendRateLimitExceeded(request, response, retryAfter);
             return;
         }
 
-        log.debug("Rate limit check: apiKeyId={}, count={}/{}", apiKeyId, totalCount, limit);
+        log.debug("Rate limit check: apiKeyId={}, remaining={}/{}", apiKeyId, result.remaining(), limit);
         filterChain.doFilter(request, response);
     }
 
-    // -------------------------------------------------------------------------
-    // Redis helpers
-    // -------------------------------------------------------------------------
-
-    /**
-     * Atomically increment the counter for {@code apiKeyId} in {@code window}
-     * and set (or refresh) a 120-second TTL so stale buckets self-expire.
-     *
-     * @return the new counter value after increment
-     */
-    private long increment(UUID apiKeyId, long window) {
-        String key = buildKey(apiKeyId, window);
-        try {
-            Long count = redisTemplate.opsForValue().increment(key);
-            // Set TTL on first write; on subsequent writes it is a no-op because
-            // the key already has a TTL.  Using EXPIRE is cheaper than a Lua script
-            // for this straightforward case.
-            redisTemplate.expire(key, Duration.ofSeconds(BUCKET_TTL_SECONDS));
-            return count != null ? count : 1L;
-        } catch (Exception e) {
-            log.error("Redis error incrementing rate-limit counter: key={}", key, e);
-            // Fail open: let the request through rather than blocking all traffic
-            // on a Redis outage.
-            return 0L;
-        }
-    }
-
     /**
-     * Read the counter for the previous window without modifying it.
-     *
-     * @return counter value, or 0 if the key is absent or Redis is unavailable
+     * @return the decision, or {@code null} if the limiter failed
      */
-    private long getCount(UUID apiKeyId, long window) {
-        String key = buildKey(apiKeyId, window);
+    private RateLimitResult check(UUID apiKeyId, int limit) {
+        RedisRateLimiter.Window window = new RedisRateLimiter.Window(
+                RATE_LIMIT_KEY_PREFIX + apiKeyId, limit, WINDOW, RateLimitAlgorithm.GCRA);
         try {
-            Object raw = redisTemplate.opsForValue().get(key);
-            if (raw == null) return 0L;
-            // RedisTemplate stores Long as Integer when deserialized with
-            // GenericJackson2JsonRedisSerializer on some configurations.
-            if (raw instanceof Number n) return n.longValue();
-            return Long.parseLong(raw.toString());
+            return rateLimiter.check(List.of(window));
         } catch (Exception e) {
-            log.error("Redis error reading rate-limit counter: key={}", key, e);
-            return 0L;
+            log.error("Error checking rate limit: apiKeyId={}", apiKeyId, e);
+            return null;
         }
     }
 
-    private String buildKey(UUID apiKeyId, long window) {
-        return RATE_LIMIT_KEY_PREFIX + apiKeyId + ":" + window;
-    }
-
     // -------------------------------------------------------------------------
     // Error response
     // -------------------------------------------------------------------------
@@ -27,7 +27,7 @@ import java.util.UUID;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService userDetailsService;
+    private final JwtPrincipalResolver principalResolver;
 
     private static final String AUTH_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
@@ -65,13 +65,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            // Validate token and extract user ID
-            jwtTokenProvider.validateAccessToken(jwt);
+            // Validate token and extract user ID (one signature check, then cached claims)
+            if (!jwtTokenProvider.validateAccessToken(jwt)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
             UUID userId = jwtTokenProvider.getUserIdFromToken(jwt);
+            if (userId == null) {
+                filterChain.doFilter(request, response);
+                return;
+            }
 
-            // Load user details (authorities are taken from DB, not token)
-            UserDetails userDetails =
-                    userDetailsService.loadUserByUsername(userId.toString());
+            // Authorities are taken from DB (cached), not token
+            UserDetails userDetails = principalResolver.resolve(userId);
 
             // Create authentication object for Spring Security
             UsernamePasswordAuthenticationToken authentication =
@@ -0,0 +1,105 @@
+package com.mockify.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mockify.backend.common.enums.UserRole;
+import com.mockify.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Short-TTL cache of {@code userId → UserDetails} for {@link JwtAuthenticationFilter}.
+ *
+ * <p>Authorities still come from the database rather than the token's role
+ * claim, but a miss only selects the role column and a hit costs nothing. The
+ * cached {@link UserDetails} carries no password; it only identifies the
+ * caller.</p>
+ *
+ * <p>Account deletion and role changes must call {@link #evict}. The TTL,
+ * kept below the access-token lifetime, is the backstop for other nodes.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtPrincipalResolver {
+
+    private static final Map<UserRole, List<SimpleGrantedAuthority>> AUTHORITIES = new EnumMap<>(UserRole.class);
+
+    static {
+        for (UserRole role : UserRole.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mockify.cache.jwt-principal.max-size:50000}")
+    private long maxSize;
+
+    @Value("${mockify.cache.jwt-principal.ttl:1m}")
+    private Duration ttl;
+
+    private Cache<UUID, UserDetails> cache;
+
+    @PostConstruct
+    void initCache() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "security.jwt-principal");
+    }
+
+    /**
+     * @throws UsernameNotFoundException if the user no longer exists (not cached)
+     */
+    public UserDetails resolve(UUID userId) {
+        UserDetails cached = cache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserRole role = userRepository.findRoleById(userId)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
+
+        UserDetails principal = new User(userId.toString(), "", AUTHORITIES.get(role));
+        cache.put(userId, principal);
+        return principal;
+    }
+
+    /**
+     * Drops the cached principal now and again after the surrounding
+     * transaction commits, so a concurrent request cannot re-cache the
+     * pre-commit role.
+     */
+    public void evict(UUID userId) {
+        cache.invalidate(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+}
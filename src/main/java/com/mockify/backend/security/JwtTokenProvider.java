@@ -1,23 +1,36 @@
 package com.mockify.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.mockify.backend.common.enums.UserRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -28,10 +41,52 @@ public class JwtTokenProvider {
     @Value("${jwt.refresh.expiration}")
     private long refreshTokenExpiration;
 
+    @Value("${mockify.cache.jwt-claims.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    /**
+     * SHA-256 of the token → verified claims. Each entry expires with its token,
+     * so the signature is checked once per token per node and an expired token
+     * always goes back through the parser (and fails there).
+     */
+    private Cache<String, ParsedJwt> claimsCache;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtSecret));
+        parser = Jwts.parser().verifyWith(signingKey).build();
+
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new Expiry<String, ParsedJwt>() {
+                    @Override
+                    public long expireAfterCreate(String digest, ParsedJwt jwt, long currentTime) {
+                        long remainingMs = jwt.expiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String digest, ParsedJwt jwt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String digest, ParsedJwt jwt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "security.jwt-claims");
+    }
+
     // Generate signing key from secret
     private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtSecret);
-        return Keys.hmacShaKeyFor(keyBytes);
+        return signingKey;
     }
 
     // Generate JWT access token for a user
@@ -65,18 +120,42 @@ public class JwtTokenProvider {
 
     // Parses and returns all claims from a token.
     public Claims getAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    /**
+     * Verifies the token once and returns its claims; later calls for the same
+     * token are served from the cache until it expires.
+     *
+     * @throws JwtException             if the token is invalid or expired
+     * @throws IllegalArgumentException if the token is blank
+     */
+    public ParsedJwt parse(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT must not be blank");
+        }
+
+        String digest = sha256(token);
+        ParsedJwt cached = claimsCache.getIfPresent(digest);
+        if (cached != null) {
+            return cached;
+        }
+
+        ParsedJwt parsed = ParsedJwt.from(getAllClaims(token));
+        if (parsed.expiration() != null) {
+            claimsCache.put(digest, parsed);
+        }
+        return parsed;
     }
 
     // Extract user ID from token
     public UUID getUserIdFromToken(String token) {
         try {
-            Claims claims = getAllClaims(token);
-            return UUID.fromString(claims.getSubject());
+            UUID userId = parse(token).userId();
+            if (userId == null) {
+                throw new IllegalArgumentException("Subject is not a user id");
+            }
+            return userId;
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Invalid JWT token: {}", e.getMessage());
             return null;
@@ -95,20 +174,20 @@ public class JwtTokenProvider {
     // JJWT parser automatically validates: signature, expiration, notBefore
     public boolean validateToken(String token, String expectedType) {
         try {
-            Claims claims = getAllClaims(token);
+            ParsedJwt jwt = parse(token);
 
             // Check token type
-            String type = claims.get("type", String.class);
+            String type = jwt.type();
             if (!expectedType.equals(type)) {
                 log.warn("Invalid token type: expected {}, got {}", expectedType, type);
                 return false;
             }
 
             // Check issuer
-            if (!"mockify-api".equals(claims.getIssuer())) return false;
+            if (!"mockify-api".equals(jwt.issuer())) return false;
 
             // Check audience
-            if (claims.getAudience() == null || !claims.getAudience().contains("mockify-web")) return false;
+            if (!jwt.audience().contains("mockify-web")) return false;
 
             return true;
 
@@ -123,8 +202,7 @@ public class JwtTokenProvider {
     // Returns JWT ID (jti) from token.
     public String getJti(String token) {
         try {
-            Claims claims = getAllClaims(token);
-            return claims.getId();
+            return parse(token).jti();
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Failed to extract jti from token: {}", e.getMessage());
             return null;
@@ -135,8 +213,7 @@ public class JwtTokenProvider {
     // Useful for calculating remaining TTL.
     public Date getExpiration(String token) {
         try {
-            Claims claims = getAllClaims(token);
-            return claims.getExpiration();
+            return parse(token).expiration();
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Failed to extract expiration from token: {}", e.getMessage());
             return null;
@@ -151,8 +228,7 @@ public class JwtTokenProvider {
      */
     public String getTokenType(String token) {
         try {
-            Claims claims = getAllClaims(token);
-            return claims.get("type", String.class);
+            return parse(token).type();
         } catch (JwtException | IllegalArgumentException e) {
             log.error("Failed to extract token type: {}", e.getMessage());
             return null;
@@ -161,9 +237,17 @@ public class JwtTokenProvider {
 
     // Return user's role without DB lookup
     public UserRole getUserRole(String token) {
-        Claims claims = getAllClaims(token);
-        String role = claims.get("role", String.class);
-        return UserRole.valueOf(role);
+        return UserRole.valueOf(parse(token).role());
+    }
+
+    private static String sha256(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
 }
@@ -0,0 +1,81 @@
+package com.mockify.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mockify.backend.common.enums.MemberRole;
+import com.mockify.backend.repository.OrganizationMemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Short-TTL cache of {@code (orgId, userId) → MemberRole} for permission checks.
+ *
+ * <p>Non-membership is cached too, so membership changes must call
+ * {@link #evict}: {@code OrganizationMemberServiceImpl} does so on accept,
+ * role change, removal, leave and ownership transfer. The TTL is the backstop
+ * for other nodes.</p>
+ *
+ * <p>Member-management flows keep reading roles straight from the repository;
+ * this cache only serves {@link MockifyPermissionEvaluator}.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberRoleResolver {
+
+    private final OrganizationMemberRepository memberRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mockify.cache.member-role.max-size:10000}")
+    private long maxSize;
+
+    @Value("${mockify.cache.member-role.ttl:30s}")
+    private Duration ttl;
+
+    private Cache<MemberKey, Optional<MemberRole>> cache;
+
+    @PostConstruct
+    void initCache() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "permission.member-role");
+    }
+
+    public Optional<MemberRole> findRole(UUID orgId, UUID userId) {
+        return cache.get(new MemberKey(orgId, userId),
+                key -> memberRepository.findRoleByOrganizationIdAndUserId(key.orgId(), key.userId()));
+    }
+
+    /**
+     * Drops the cached role now and again after the surrounding transaction
+     * commits, so a concurrent check cannot re-cache the pre-commit role.
+     */
+    public void evict(UUID orgId, UUID userId) {
+        MemberKey key = new MemberKey(orgId, userId);
+        cache.invalidate(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(key);
+                }
+            });
+        }
+    }
+
+    private record MemberKey(UUID orgId, UUID userId) {}
+}
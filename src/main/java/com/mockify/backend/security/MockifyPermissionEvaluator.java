@@ -3,11 +3,6 @@ package com.mockify.backend.security;
 import com.mockify.backend.common.enums.MemberRole;
 import com.mockify.backend.model.ApiKeyPermission.ApiPermission;
 import com.mockify.backend.model.ApiKeyPermission.ApiResourceType;
-import com.mockify.backend.model.MockRecord;
-import com.mockify.backend.model.MockSchema;
-import com.mockify.backend.model.Organization;
-import com.mockify.backend.model.Project;
-import com.mockify.backend.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.PermissionEvaluator;
@@ -18,6 +13,7 @@ import org.springframework.stereotype.Component;
 import java.io.Serializable;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * Central authorization engine for all resource-level access decisions.
@@ -84,11 +80,8 @@ import java.util.UUID;
 @Slf4j
 public class MockifyPermissionEvaluator implements PermissionEvaluator {
 
-    private final OrganizationRepository organizationRepository;
-    private final ProjectRepository projectRepository;
-    private final MockSchemaRepository mockSchemaRepository;
-    private final MockRecordRepository mockRecordRepository;
-    private final OrganizationMemberRepository memberRepository;
+    private final ResourceContextResolver resourceContextResolver;
+    private final MemberRoleResolver memberRoleResolver;
 
     // -------------------------------------------------------------------------
     // PermissionEvaluator contract
@@ -122,7 +115,38 @@ public class MockifyPermissionEvaluator implements PermissionEvaluator {
         String permStr = permission.toString().toUpperCase();
 
         try {
-            return evaluate(authentication, resourceId, targetType.toUpperCase(), permStr);
+            return evaluate(authentication, resourceId, targetType.toUpperCase(), permStr, null, null);
+        } catch (Exception e) {
+            log.error("Permission evaluation error: type={}, id={}, perm={}", targetType, targetId, permission, e);
+            return false;
+        }
+    }
+
+    /**
+     * Same decision as {@link #hasPermission(Authentication, Serializable, String, Object)}
+     * for callers that already fetched the target's context and the caller's
+     * membership role in their own query (see {@link SchemaAccessGuard}), so no
+     * further lookups are made.
+     *
+     * @param ctx        organization/project the target lives in
+     * @param callerRole JWT caller's role in {@code ctx}'s organization, {@code null} if not a member;
+     *                   ignored for API key callers
+     */
+    public boolean hasPermission(
+            Authentication authentication,
+            UUID targetId,
+            String targetType,
+            String permission,
+            ResourceContext ctx,
+            MemberRole callerRole) {
+
+        if (authentication == null || targetId == null || targetType == null || permission == null || ctx == null) {
+            return false;
+        }
+
+        try {
+            return evaluate(authentication, targetId, targetType.toUpperCase(), permission.toUpperCase(),
+                    ctx, callerId -> Optional.ofNullable(callerRole));
         } catch (Exception e) {
             log.error("Permission evaluation error: type={}, id={}, perm={}", targetType, targetId, permission, e);
             return false;
@@ -143,7 +167,12 @@ public class MockifyPermissionEvaluator implements PermissionEvaluator {
     // Core evaluation
     // -------------------------------------------------------------------------
 
-    private boolean evaluate(Authentication auth, UUID targetId, String targetType, String permission) {
+    /**
+     * @param knownCtx   pre-resolved context, or {@code null} to resolve from {@code targetId}
+     * @param roleLookup caller id → role, or {@code null} to use {@link MemberRoleResolver}
+     */
+    private boolean evaluate(Authentication auth, UUID targetId, String targetType, String permission,
+                             ResourceContext knownCtx, Function<UUID, Optional<MemberRole>> roleLookup) {
 
         // Parse permission — may be simple ("WRITE") or compound ("SCHEMA:WRITE")
         String resourcePermStr;
@@ -163,8 +192,10 @@ public class MockifyPermissionEvaluator implements PermissionEvaluator {
             return false;
         }
 
-        // Load the target entity and resolve org + project context
-        ResourceContext ctx = loadContext(targetId, targetType);
+        // Resolve org + project context of the target (cached projection, no entity load)
+        ResourceContext ctx = knownCtx != null
+                ? knownCtx
+                : resourceContextResolver.resolve(targetId, targetType);
         if (ctx == null) {
             return false; // resource not found — deny
         }
@@ -181,7 +212,10 @@ public class MockifyPermissionEvaluator implements PermissionEvaluator {
         if (auth instanceof ApiKeyAuthenticationToken token) {
             return evaluateApiKey(token, ctx, resourceType, requiredPermission, targetId, resourceTypeOverride != null);
         } else {
-            return evaluateJwt(auth, ctx, requiredPermission, resourceType);
+            Function<UUID, Optional<MemberRole>> roles = roleLookup != null
+                    ? roleLookup
+                    : callerId -> memberRoleResolver.findRole(ctx.organizationId(), callerId);
+            return evaluateJwt(auth, ctx, requiredPermission, resourceType, roles);
         }
     }
 
@@ -190,16 +224,16 @@ public class MockifyPermissionEvaluator implements PermissionEvaluator {
     // -------------------------------------------------------------------------
 
     private boolean evaluateJwt(Authentication auth, ResourceContext ctx,
-                                ApiPermission requiredPermission, ApiResourceType resourceType) {
+                                ApiPermission requiredPermission, ApiResourceType resourceType,
+                                Function<UUID, Optional<MemberRole>> roleLookup) {
         UUID callerId = resolveJwtUserId(auth);
         if (callerId == null) return false;
 
-        Optional<MemberRole> roleOpt = memberRepository
-                .findRoleByOrganizationIdAndUserId(ctx.organization().getId(), callerId);
+        Optional<MemberRole> roleOpt = roleLookup.apply(callerId);
 
         if (roleOpt.isEmpty()) {
             log.debug("JWT access denied: user {} is not a member of org {}",
-                    callerId, ctx.organization().getId());
+                    callerId, ctx.organizationId());
             return false;
         }
 
@@ -234,9 +268,9 @@ public class MockifyPermissionEvaluator implements PermissionEvaluator {
             boolean isCollectionOp
     ) {
         // Guard 1: organization scope
-        if (!token.hasOrganizationAccess(ctx.organization().getId())) {
+        if (!token.hasOrganizationAccess(ctx.organizationId())) {
             log.warn("API key {} denied: org mismatch (key={}, resource={})",
-                    token.getApiKeyId(), token.getOrganizationId(), ctx.organization().getId());
+                    token.getApiKeyId(), token.getOrganizationId(), ctx.organizationId());
             return false;
         }
 
@@ -260,41 +294,6 @@ public class MockifyPermissionEvaluator implements PermissionEvaluator {
         return granted;
     }
 
-    // -------------------------------------------------------------------------
-    // Resource loading — resolves org + project context from any entity
-    // -------------------------------------------------------------------------
-
-    private ResourceContext loadContext(UUID id, String targetType) {
-        return switch (targetType) {
-            case "ORGANIZATION" -> {
-                Organization org = organizationRepository.findByIdWithOwnerAndProjects(id).orElse(null);
-                yield org != null ? new ResourceContext(org, null) : null;
-            }
-            case "PROJECT" -> {
-                Project project = projectRepository.findByIdWithOrgAndOwner(id).orElse(null);
-                yield project != null ? new ResourceContext(project.getOrganization(), project.getId()) : null;
-            }
-            case "SCHEMA" -> {
-                MockSchema schema = mockSchemaRepository.findWithContextById(id).orElse(null);
-                yield schema != null
-                        ? new ResourceContext(schema.getProject().getOrganization(), schema.getProject().getId())
-                        : null;
-            }
-            case "RECORD" -> {
-                MockRecord record = mockRecordRepository.findWithContextById(id).orElse(null);
-                yield record != null
-                        ? new ResourceContext(
-                        record.getMockSchema().getProject().getOrganization(),
-                        record.getMockSchema().getProject().getId())
-                        : null;
-            }
-            default -> {
-                log.warn("loadContext: unknown targetType '{}'", targetType);
-                yield null;
-            }
-        };
-    }
-
     // -------------------------------------------------------------------------
     // Helpers
     // -------------------------------------------------------------------------
@@ -335,10 +334,4 @@ public class MockifyPermissionEvaluator implements PermissionEvaluator {
             return null;
         }
     }
-
-    /**
-     * Carries the organization and optional project resolved from a target resource.
-     * Used to evaluate both JWT ownership and API key scope checks.
-     */
-    private record ResourceContext(Organization organization, UUID projectId) {}
-}
\ No newline at end of file
+}
@@ -0,0 +1,46 @@
+package com.mockify.backend.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Claims of a signature-verified JWT, extracted once by
+ * {@link JwtTokenProvider#parse(String)}.
+ *
+ * @param userId   subject as a UUID, or {@code null} if the subject is not one
+ * @param type     {@code access} or {@code refresh}
+ * @param role     raw {@code role} claim
+ */
+public record ParsedJwt(
+        UUID userId,
+        String jti,
+        String type,
+        String role,
+        String issuer,
+        Set<String> audience,
+        Date expiration
+) {
+
+    public static ParsedJwt from(Claims claims) {
+        return new ParsedJwt(
+                toUuid(claims.getSubject()),
+                claims.getId(),
+                claims.get("type", String.class),
+                claims.get("role", String.class),
+                claims.getIssuer(),
+                claims.getAudience() != null ? Set.copyOf(claims.getAudience()) : Set.of(),
+                claims.getExpiration()
+        );
+    }
+
+    private static UUID toUuid(String subject) {
+        try {
+            return subject != null ? UUID.fromString(subject) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
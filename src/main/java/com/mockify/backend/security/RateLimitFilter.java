@@ -8,12 +8,15 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.server.PathContainer;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
@@ -21,13 +24,12 @@ public class RateLimitFilter extends OncePerRequestFilter {
 
     private final RateLimitService rateLimitService;
 
-    private final AntPathMatcher matcher = new AntPathMatcher();
-
     /**
      * Endpoints that should bypass rate limiting.
      * These are documentation, OAuth handshake, or static resources.
+     * Compiled once at class load.
      */
-    private static final List<String> EXCLUDED_PATHS = List.of(
+    private static final List<PathPattern> EXCLUDED_PATHS = Stream.of(
             "/swagger-ui/**",
             "/v3/api-docs/**",
             "/swagger-resources/**",
@@ -35,7 +37,7 @@ public class RateLimitFilter extends OncePerRequestFilter {
             "/oauth2/**",
             "/login/oauth2/**",
             "/.well-known/**"
-    );
+    ).map(PathPatternParser.defaultInstance::parse).toList();
 
     /**
      * Spring calls this before executing the filter.
@@ -44,11 +46,14 @@ public class RateLimitFilter extends OncePerRequestFilter {
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
 
-        String path = request.getRequestURI();
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
 
-        return EXCLUDED_PATHS
-                .stream()
-                .anyMatch(pattern -> matcher.match(pattern, path));
+        for (PathPattern pattern : EXCLUDED_PATHS) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
     }
 
 
@@ -0,0 +1,10 @@
+package com.mockify.backend.security;
+
+import java.util.UUID;
+
+/**
+ * Organization and (optional) project a resource lives in — all that
+ * authorization needs to know about a target. Built directly by the
+ * repository projection queries, no entities loaded.
+ */
+public record ResourceContext(UUID organizationId, UUID projectId) {}
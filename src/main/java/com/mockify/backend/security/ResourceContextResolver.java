@@ -0,0 +1,97 @@
+package com.mockify.backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mockify.backend.repository.MockRecordRepository;
+import com.mockify.backend.repository.MockSchemaRepository;
+import com.mockify.backend.repository.OrganizationRepository;
+import com.mockify.backend.repository.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resolves a permission target ({@code SCHEMA}, {@code RECORD}, ...) to its
+ * {@link ResourceContext} using id-only projection queries, cached in memory.
+ *
+ * <p>The hierarchy is immutable — records, schemas and projects never move to
+ * another parent — so a cached context is never wrong while the resource
+ * exists. A deleted resource can keep its entry until TTL; the service call
+ * behind the permission check still fails with not-found. Misses are not
+ * cached.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResourceContextResolver {
+
+    private final OrganizationRepository organizationRepository;
+    private final ProjectRepository projectRepository;
+    private final MockSchemaRepository mockSchemaRepository;
+    private final MockRecordRepository mockRecordRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mockify.cache.resource-context.max-size:50000}")
+    private long maxSize;
+
+    @Value("${mockify.cache.resource-context.ttl:10m}")
+    private Duration ttl;
+
+    private Cache<ContextKey, ResourceContext> cache;
+
+    @PostConstruct
+    void initCache() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "permission.resource-context");
+    }
+
+    /**
+     * @param targetType upper-case target type from {@code hasPermission}
+     * @return the context, or {@code null} if the resource does not exist
+     *         or the type is unknown
+     */
+    public ResourceContext resolve(UUID id, String targetType) {
+        ContextKey key = new ContextKey(targetType, id);
+
+        ResourceContext cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        ResourceContext ctx = load(id, targetType).orElse(null);
+        if (ctx != null) {
+            cache.put(key, ctx);
+        }
+        return ctx;
+    }
+
+    private Optional<ResourceContext> load(UUID id, String targetType) {
+        return switch (targetType) {
+            case "ORGANIZATION" -> organizationRepository.existsById(id)
+                    ? Optional.of(new ResourceContext(id, null))
+                    : Optional.empty();
+            case "PROJECT" -> projectRepository.findResourceContextById(id);
+            case "SCHEMA" -> mockSchemaRepository.findResourceContextById(id);
+            case "RECORD" -> mockRecordRepository.findResourceContextById(id);
+            default -> {
+                log.warn("loadContext: unknown targetType '{}'", targetType);
+                yield Optional.empty();
+            }
+        };
+    }
+
+    private record ContextKey(String targetType, UUID id) {}
+}
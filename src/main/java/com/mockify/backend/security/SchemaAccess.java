@@ -0,0 +1,24 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.common.enums.MemberRole;
+
+import java.util.UUID;
+
+/**
+ * Everything needed to authorize and serve a request addressed by an
+ * {@code org/project/schema} slug path, fetched in one statement by
+ * {@code EndpointRepository.findSchemaAccess}.
+ *
+ * @param callerRole the caller's membership role, {@code null} if not a member
+ */
+public record SchemaAccess(
+        UUID schemaId,
+        UUID projectId,
+        UUID organizationId,
+        MemberRole callerRole
+) {
+
+    public ResourceContext context() {
+        return new ResourceContext(organizationId, projectId);
+    }
+}
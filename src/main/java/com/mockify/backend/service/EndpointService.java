@@ -16,6 +16,10 @@ public interface EndpointService {
     // Delete endpoint when resource is deleted
     void deleteEndpoint(UUID resourceId, String resourceType);
 
+    // Evict cached paths at and below a resource's endpoint before the resource
+    // is deleted (its endpoint rows are removed by ON DELETE CASCADE)
+    void evictEndpointPaths(UUID resourceId, String resourceType);
+
     /**
      * Resolve organization from slug
      * Path: {org}
@@ -1,7 +1,36 @@
 package com.mockify.backend.service;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public interface MockAutoGenerateService {
     Map<String, Object> generateRecord(Map<String, Object> schemaJson);
+
+    /**
+     * Resolves the generator of every field once. The plan then generates any
+     * number of records for the schema without re-reading it.
+     */
+    GenerationPlan compile(Map<String, Object> schemaJson);
+
+    /**
+     * Generates records for one compiled schema.
+     */
+    @FunctionalInterface
+    interface GenerationPlan {
+        Map<String, Object> generate();
+
+        /**
+         * Generates {@code count} records. With a seed, the chunk depends on
+         * nothing but the schema, the seed and the count: the same arguments
+         * yield the same records on any thread.
+         */
+        default List<Map<String, Object>> generateChunk(int count, Long seed) {
+            List<Map<String, Object>> records = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                records.add(generate());
+            }
+            return records;
+        }
+    }
 }
@@ -1,20 +1,130 @@
 package com.mockify.backend.service;
 
+import com.mockify.backend.infrastructure.MockRecordPartitionManager;
 import com.mockify.backend.repository.MockRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
+/**
+ * Deletes expired mock records.
+ *
+ * <p>Daily partitions that have fully expired are dropped whole first
+ * ({@link MockRecordPartitionManager}). What remains expired — rows of the
+ * current day and of the default partition — is deleted in bounded chunks.
+ * Each chunk deletes at most {@code chunk-size} rows and commits on its own,
+ * so no run holds locks on, or bloats a transaction with, the whole backlog.
+ * Rows locked by concurrent writers are skipped. A run stops once a chunk comes
+ * back short or the {@code time-budget} is spent; whatever remains is picked up
+ * by the next run.</p>
+ *
+ * <p>Metrics: {@code cleanup.mock_records.deleted} and
+ * {@code cleanup.mock_records.chunks} and
+ * {@code cleanup.mock_records.partitions_dropped} counters, and the
+ * {@code cleanup.mock_records.duration} timer tagged with the run's outcome.</p>
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MockRecordCleanupService {
 
     private final MockRecordRepository mockRecordRepository;
+    private final MockRecordPartitionManager partitionManager;
+    private final MeterRegistry meterRegistry;
 
-    @Transactional
-    public int cleanExpiredMockRecords() {
-        return mockRecordRepository.deleteExpiredMockRecords(LocalDateTime.now());
+    @Value("${cleanup.mock-data.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${cleanup.mock-data.time-budget:5m}")
+    private Duration timeBudget;
+
+    private Counter deletedCounter;
+    private Counter chunkCounter;
+    private Counter partitionCounter;
+
+    @PostConstruct
+    void init() {
+        deletedCounter = Counter.builder("cleanup.mock_records.deleted")
+                .description("Expired mock records deleted by the cleanup job")
+                .register(meterRegistry);
+        chunkCounter = Counter.builder("cleanup.mock_records.chunks")
+                .description("Delete chunks committed by the cleanup job")
+                .register(meterRegistry);
+        partitionCounter = Counter.builder("cleanup.mock_records.partitions_dropped")
+                .description("Expired mock_records partitions dropped by the cleanup job")
+                .register(meterRegistry);
+    }
+
+    public CleanupRun cleanExpiredMockRecords() {
+        // Fixed cut-off: rows expiring during the run wait for the next one
+        LocalDateTime now = LocalDateTime.now();
+        int limit = Math.max(1, chunkSize);
+
+        long start = System.nanoTime();
+        long deadline = start + timeBudget.toNanos();
+
+        long deleted = 0;
+        int chunks = 0;
+        int partitionsDropped = 0;
+        boolean budgetExhausted = false;
+        String outcome = "failed";
+        Duration elapsed;
+
+        try {
+            partitionsDropped = dropExpiredPartitions(now);
+
+            while (true) {
+                int removed = mockRecordRepository.deleteExpiredMockRecordsChunk(now, limit);
+                chunks++;
+                deleted += removed;
+                deletedCounter.increment(removed);
+                chunkCounter.increment();
+
+                if (removed < limit) {
+                    break;
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    budgetExhausted = true;
+                    break;
+                }
+            }
+            outcome = budgetExhausted ? "budget_exhausted" : "completed";
+        } finally {
+            elapsed = Duration.ofNanos(System.nanoTime() - start);
+            Timer.builder("cleanup.mock_records.duration")
+                    .description("Duration of expired mock record cleanup runs")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(elapsed);
+        }
+
+        return new CleanupRun(deleted, chunks, partitionsDropped, elapsed, budgetExhausted);
+    }
+
+    // A failed drop leaves the partition's rows to the chunked delete
+    private int dropExpiredPartitions(LocalDateTime now) {
+        try {
+            int dropped = partitionManager.dropExpiredPartitions(now);
+            partitionCounter.increment(dropped);
+            return dropped;
+        } catch (DataAccessException e) {
+            log.warn("[Cleanup] Dropping expired mock_records partitions failed; deleting rows instead", e);
+            return 0;
+        }
+    }
+
+    /**
+     * Summary of one cleanup run.
+     */
+    public record CleanupRun(long deleted, int chunks, int partitionsDropped, Duration duration, boolean budgetExhausted) {
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,18 @@
 package com.mockify.backend.service;
 
+import com.mockify.backend.common.enums.RecordExportFormat;
 import com.mockify.backend.dto.request.record.CreateMockRecordRequest;
 import com.mockify.backend.dto.request.record.UpdateMockRecordRequest;
 import com.mockify.backend.dto.response.record.MockRecordResponse;
+import com.mockify.backend.dto.response.record.RecordExport;
+import com.mockify.backend.dto.response.record.RecordImportSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,12 +22,22 @@ public interface MockRecordService {
 
     List<MockRecordResponse> createRecordsBulk(UUID userId, UUID schemaId, List<CreateMockRecordRequest> requests);
 
-    List<MockRecordResponse> autoGenerateRecordsBulk(UUID userId, UUID schemaId, int count);
+    List<MockRecordResponse> autoGenerateRecordsBulk(UUID userId, UUID schemaId, int count, Long seed);
+
+    RecordImportSummary importRecordsStream(UUID userId, UUID schemaId, InputStream ndjson);
+
+    RecordExport prepareExport(UUID userId, UUID schemaId, RecordExportFormat format);
+
+    long exportRecords(UUID userId, RecordExport export, OutputStream out) throws IOException;
 
     MockRecordResponse getRecordById(UUID userId, UUID recordId);
 
+    MockRecordResponse getRecordByPath(UUID userId, String orgSlug, String projectSlug, String schemaSlug, UUID recordId);
+
     Page<MockRecordResponse> getRecordsBySchemaId(UUID userId, UUID schemaId, Pageable pageable);
 
+    Slice<MockRecordResponse> getRecordSliceBySchemaId(UUID userId, UUID schemaId, String cursor, int size);
+
     MockRecordResponse updateRecord(UUID userId, UUID recordId, UpdateMockRecordRequest request);
 
     void deleteRecord(UUID userId, UUID recordId);
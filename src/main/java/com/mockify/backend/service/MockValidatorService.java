@@ -1,6 +1,9 @@
 package com.mockify.backend.service;
 
+import com.mockify.backend.model.MockSchema;
+
 import java.util.Map;
+import java.util.UUID;
 
 public interface MockValidatorService {
     // Validate schema blueprint correctness (types must be string keywords)
@@ -8,4 +11,10 @@ public interface MockValidatorService {
 
     // Validate record data matches schema structure
     void validateRecordAgainstSchema(Map<String, Object> schemaJson, Map<String, Object> recordJson);
+
+    // Validate record data against a persisted schema, reusing its compiled form
+    void validateRecordAgainstSchema(MockSchema schema, Map<String, Object> recordJson);
+
+    // Drop the compiled form of a schema after its definition changes
+    void evictCompiledSchema(UUID schemaId);
 }
@@ -3,6 +3,7 @@ package com.mockify.backend.service;
 import com.mockify.backend.dto.response.record.MockRecordResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.UUID;
@@ -15,6 +16,9 @@ public interface PublicMockRecordService {
     // Get all records under Aa schema (public user)
     Page<MockRecordResponse> getRecordsBySchemaId(UUID schemaId, Pageable pageable);
 
+    // Cursor-paged records under a schema, no total count (public user)
+    Slice<MockRecordResponse> getRecordSliceBySchemaId(UUID schemaId, String cursor, int size);
+
     Page<MockRecordResponse> getRecordsBySlug(
             String orgSlug,
             String projectSlug,
@@ -2,6 +2,7 @@ package com.mockify.backend.service;
 
 import com.mockify.backend.config.RateLimitProperties;
 import com.mockify.backend.dto.response.ratelimit.RateLimitResult;
+import com.mockify.backend.infrastructure.LeasedRateLimiter;
 import com.mockify.backend.infrastructure.RedisRateLimiter;
 import com.mockify.backend.util.RateLimitPathMatcher;
 import lombok.RequiredArgsConstructor;
@@ -9,16 +10,20 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class RateLimitService {
 
     private final RateLimitProperties properties;
     private final RateLimitPathMatcher pathMatcher;
-    private final RedisRateLimiter redisRateLimiter;
+    private final LeasedRateLimiter rateLimiter;
 
     /**
-     * Applies global + group rate limit.
+     * Applies global + group rate limit in one Redis round-trip, or none while
+     * this node holds leased permits for the client.
      */
     public RateLimitResult checkRateLimit(String path, String ip) {
 
@@ -27,35 +32,26 @@ public class RateLimitService {
 
         String globalKey = buildKey(global.getType(), ip, "global");
 
-        RateLimitResult globalResult = redisRateLimiter.check(
-                globalKey,
-                global.getLimit(),
-                global.getWindow()
-        );
-
-        if (!globalResult.allowed()) {
-            return globalResult;
-        }
+        List<RedisRateLimiter.Window> windows = new ArrayList<>(2);
+        windows.add(new RedisRateLimiter.Window(
+                globalKey, global.getLimit(), global.getWindow(), global.getAlgorithm()));
 
         // GROUP LIMIT
         var match = pathMatcher.match(path);
 
-        if (match == null) {
-            return globalResult; // no group match, return global result
-        }
-
-        var group = match.group();
-        String groupName = match.groupName();
+        if (match != null) {
+            var group = match.group();
+            String groupName = match.groupName();
 
-        String identifier = resolveIdentifier(group.getType(), ip);
+            String identifier = resolveIdentifier(group.getType(), ip);
 
-        String key = buildKey(group.getType(), identifier, groupName);
+            String key = buildKey(group.getType(), identifier, groupName);
+            windows.add(new RedisRateLimiter.Window(
+                    key, group.getLimit(), group.getWindow(), group.getAlgorithm()));
+        }
 
-        return redisRateLimiter.check(
-                key,
-                group.getLimit(),
-                group.getWindow()
-        );
+        // Global is checked first; with no group match the global result is returned
+        return rateLimiter.check(windows);
     }
 
     /**
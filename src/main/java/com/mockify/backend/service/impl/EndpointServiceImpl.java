@@ -1,15 +1,25 @@
 package com.mockify.backend.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mockify.backend.exception.DuplicateResourceException;
 import com.mockify.backend.exception.ResourceNotFoundException;
 import com.mockify.backend.model.*;
 import com.mockify.backend.repository.EndpointRepository;
 import com.mockify.backend.service.EndpointService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -18,6 +28,32 @@ import java.util.UUID;
 public class EndpointServiceImpl implements EndpointService {
 
     private final EndpointRepository endpointRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mockify.cache.schema-path.max-size:10000}")
+    private long schemaPathCacheMaxSize;
+
+    @Value("${mockify.cache.schema-path.ttl:5m}")
+    private Duration schemaPathCacheTtl;
+
+    /**
+     * Full path ({@code org/project/schema}) → schema id. Only successful
+     * resolutions are cached. Local to this node: invalidation hooks below keep
+     * it exact here, the TTL bounds how long another node can serve a renamed
+     * or deleted path.
+     */
+    private Cache<String, UUID> schemaPathCache;
+
+    @PostConstruct
+    void initSchemaPathCache() {
+        schemaPathCache = Caffeine.newBuilder()
+                .maximumSize(schemaPathCacheMaxSize)
+                .expireAfterWrite(schemaPathCacheTtl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, schemaPathCache, "endpoint.schema-path");
+    }
 
     @Override
     @Transactional
@@ -39,6 +75,7 @@ public class EndpointServiceImpl implements EndpointService {
             throw new DuplicateResourceException("Endpoint already exists: " + fullPath);
         }
         endpointRepository.save(endpoint);
+        invalidatePath(fullPath);
 
         log.debug("Created organization endpoint: {}", fullPath);
     }
@@ -66,6 +103,7 @@ public class EndpointServiceImpl implements EndpointService {
             throw new DuplicateResourceException("Endpoint already exists: " + fullPath);
         }
         endpointRepository.save(endpoint);
+        invalidatePath(fullPath);
 
         log.debug("Created project endpoint: {}", fullPath);
     }
@@ -93,6 +131,7 @@ public class EndpointServiceImpl implements EndpointService {
             throw new DuplicateResourceException("Endpoint already exists: " + fullPath);
         }
         endpointRepository.save(endpoint);
+        invalidatePath(fullPath);
 
         log.debug("Created schema endpoint: {}", fullPath);
     }
@@ -123,6 +162,10 @@ public class EndpointServiceImpl implements EndpointService {
         // Update all child endpoints recursively
         updateChildPaths(endpoint, oldFullPath, newFullPath);
 
+        // Every cached path under the old prefix is now stale
+        invalidatePath(oldFullPath);
+        invalidatePath(newFullPath);
+
         log.debug("Updated endpoint slug from {} to {}", oldFullPath, newFullPath);
     }
 
@@ -160,11 +203,19 @@ public class EndpointServiceImpl implements EndpointService {
         Endpoint endpoint = findEndpointByResource(resourceId, resourceType);
 
         if (endpoint != null) {
+            invalidatePath(endpoint.getFullPath());
             endpointRepository.delete(endpoint);
             log.debug("Deleted endpoint: {}", endpoint.getFullPath());
         }
     }
 
+    @Override
+    @Transactional
+    public void evictEndpointPaths(UUID resourceId, String resourceType) {
+        findOptionalEndpointByResource(resourceId, resourceType)
+                .ifPresent(endpoint -> invalidatePath(endpoint.getFullPath()));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public UUID resolveOrganization(String orgSlug) {
@@ -206,6 +257,11 @@ public class EndpointServiceImpl implements EndpointService {
     public UUID resolveSchema(String orgSlug, String projectSlug, String schemaSlug) {
         String fullPath = orgSlug + "/" + projectSlug + "/" + schemaSlug;
 
+        UUID cached = schemaPathCache.getIfPresent(fullPath);
+        if (cached != null) {
+            return cached;
+        }
+
         Endpoint endpoint = endpointRepository.findByFullPath(fullPath)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Schema not found: " + fullPath
@@ -217,20 +273,48 @@ public class EndpointServiceImpl implements EndpointService {
             );
         }
 
-        return endpoint.getSchema().getId();
+        UUID schemaId = endpoint.getSchema().getId();
+        schemaPathCache.put(fullPath, schemaId);
+        return schemaId;
+    }
+
+    /**
+     * Evicts {@code path} and every cached path beneath it. Runs again after
+     * commit so a concurrent resolve that read the pre-commit row cannot leave
+     * a stale entry behind.
+     */
+    private void invalidatePath(String path) {
+        evictPathPrefix(path);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictPathPrefix(path);
+                }
+            });
+        }
+    }
+
+    private void evictPathPrefix(String path) {
+        String childPrefix = path + "/";
+        schemaPathCache.asMap().keySet()
+                .removeIf(key -> key.equals(path) || key.startsWith(childPrefix));
     }
 
     /**
      * Helper to find endpoint by resource ID and type
      */
     private Endpoint findEndpointByResource(UUID resourceId, String resourceType) {
+        return findOptionalEndpointByResource(resourceId, resourceType)
+                .orElseThrow(() -> new ResourceNotFoundException("Endpoint not found"));
+    }
+
+    private Optional<Endpoint> findOptionalEndpointByResource(UUID resourceId, String resourceType) {
         return switch (resourceType.toLowerCase()) {
-            case "organization" -> endpointRepository.findByOrganizationId(resourceId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Endpoint not found"));
-            case "project" -> endpointRepository.findByProjectId(resourceId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Endpoint not found"));
-            case "schema" -> endpointRepository.findBySchemaId(resourceId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Endpoint not found"));
+            case "organization" -> endpointRepository.findByOrganizationId(resourceId);
+            case "project" -> endpointRepository.findByProjectId(resourceId);
+            case "schema" -> endpointRepository.findBySchemaId(resourceId);
             default -> throw new IllegalArgumentException("Invalid resource type: " + resourceType);
         };
     }
@@ -0,0 +1,143 @@
+package com.mockify.backend.service.impl;
+
+import com.github.javafaker.Faker;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Faker's word, name, place and company lists, read once into arrays.
+ *
+ * <p>Values are composed by indexing and concatenation only: no YAML expression
+ * resolution or regex substitution per call, unlike the equivalent Faker
+ * methods. Formats follow Faker's English ones. The caller passes the
+ * {@link Random}, so seeded generation stays reproducible.</p>
+ */
+final class GeneratorCorpus {
+
+    private final String[] words;
+    private final String[] firstNames;
+    private final String[] lastNames;
+    // Lower-cased, apostrophes removed, as in Faker usernames
+    private final String[] firstNameHandles;
+    private final String[] lastNameHandles;
+    private final String[] cityPrefixes;
+    private final String[] citySuffixes;
+    private final String[] companySuffixes;
+    private final String[] emailDomains;
+    private final String[] states;
+    private final String[] countries;
+
+    private GeneratorCorpus(Faker faker) {
+        words = list(faker, "lorem.words");
+        firstNames = list(faker, "name.first_name");
+        lastNames = list(faker, "name.last_name");
+        firstNameHandles = handles(firstNames);
+        lastNameHandles = handles(lastNames);
+        cityPrefixes = list(faker, "address.city_prefix");
+        citySuffixes = list(faker, "address.city_suffix");
+        companySuffixes = list(faker, "company.suffix");
+        emailDomains = list(faker, "internet.free_email");
+        states = list(faker, "address.state");
+        countries = list(faker, "address.country");
+    }
+
+    /**
+     * Reads the English lists.
+     *
+     * @throws IllegalStateException if a list is missing from Faker's data
+     */
+    static GeneratorCorpus load() {
+        return new GeneratorCorpus(new Faker(Locale.ENGLISH));
+    }
+
+    String word(Random random) {
+        return pick(words, random);
+    }
+
+    String firstName(Random random) {
+        return pick(firstNames, random);
+    }
+
+    String lastName(Random random) {
+        return pick(lastNames, random);
+    }
+
+    String fullName(Random random) {
+        return firstName(random) + ' ' + lastName(random);
+    }
+
+    String username(Random random) {
+        return pick(firstNameHandles, random) + '.' + pick(lastNameHandles, random);
+    }
+
+    String email(Random random) {
+        return new StringBuilder(32)
+                .append(pick(firstNameHandles, random))
+                .append('.')
+                .append(pick(lastNameHandles, random))
+                .append('@')
+                .append(pick(emailDomains, random))
+                .toString();
+    }
+
+    String city(Random random) {
+        StringBuilder city = new StringBuilder(24);
+        switch (random.nextInt(4)) {
+            case 0 -> city.append(pick(cityPrefixes, random)).append(' ')
+                    .append(firstName(random)).append(pick(citySuffixes, random));
+            case 1 -> city.append(pick(cityPrefixes, random)).append(' ').append(firstName(random));
+            case 2 -> city.append(firstName(random)).append(pick(citySuffixes, random));
+            default -> city.append(lastName(random)).append(pick(citySuffixes, random));
+        }
+        return city.toString();
+    }
+
+    String company(Random random) {
+        StringBuilder company = new StringBuilder(32);
+        switch (random.nextInt(3)) {
+            case 0 -> company.append(lastName(random)).append(' ').append(pick(companySuffixes, random));
+            case 1 -> company.append(lastName(random)).append('-').append(lastName(random));
+            default -> company.append(lastName(random)).append(", ")
+                    .append(lastName(random)).append(" and ").append(lastName(random));
+        }
+        return company.toString();
+    }
+
+    String state(Random random) {
+        return pick(states, random);
+    }
+
+    String country(Random random) {
+        return pick(countries, random);
+    }
+
+    String zipCode(Random random) {
+        char[] digits = new char[5];
+        for (int i = 0; i < digits.length; i++) {
+            digits[i] = (char) ('0' + random.nextInt(10));
+        }
+        return new String(digits);
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String[] list(Faker faker, String key) {
+        Object values = faker.fakeValuesService().fetchObject(key);
+        if (!(values instanceof List<?> list) || list.isEmpty()) {
+            throw new IllegalStateException("Faker list not found: " + key);
+        }
+        return list.stream().map(String::valueOf).toArray(String[]::new);
+    }
+
+    private static String[] handles(String[] names) {
+        String[] handles = new String[names.length];
+        for (int i = 0; i < names.length; i++) {
+            handles[i] = names[i].replace("'", "").toLowerCase(Locale.ROOT);
+        }
+        return handles;
+    }
+}
@@ -2,110 +2,260 @@ package com.mockify.backend.service.impl;
 
 import com.github.javafaker.Faker;
 import com.mockify.backend.service.MockAutoGenerateService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
-import java.util.function.Supplier;
 
+@Slf4j
 @Service
 public class MockAutoGenerateServiceImpl implements MockAutoGenerateService {
 
-    private static final ThreadLocal<Faker> FAKER =
-            ThreadLocal.withInitial(Faker::new);
+    /**
+     * Fixed clock of seeded datasets, so timestamp fields reproduce as well.
+     */
+    private static final Instant SEEDED_REFERENCE_TIME = Instant.parse("2025-01-01T00:00:00Z");
 
-    private Faker faker() {
-        return FAKER.get();
-    }
+    // Unseeded generation: per-thread Faker over its own Random, wall clock
+    private static final ThreadLocal<Source> UNSEEDED =
+            ThreadLocal.withInitial(() -> new Source(new Random(), null));
+
+    // Seeded generation: per-thread Faker over a Random reseeded for every chunk
+    private static final ThreadLocal<Source> SEEDED =
+            ThreadLocal.withInitial(() -> new Source(new Random(), SEEDED_REFERENCE_TIME));
 
     // Exact field generators
-    private final Map<String, Supplier<Object>> fieldGenerators = Map.ofEntries(
-            Map.entry("id", () -> faker().number().numberBetween(1, 100000)),
-            Map.entry("name", () -> faker().name().fullName()),
-            Map.entry("firstName", () -> faker().name().firstName()),
-            Map.entry("lastName", () -> faker().name().lastName()),
-            Map.entry("username", () -> faker().name().username()),
-            Map.entry("email", () -> faker().internet().emailAddress()),
-            Map.entry("phone", () -> faker().phoneNumber().cellPhone()),
-            Map.entry("city", () -> faker().address().city()),
-            Map.entry("state", () -> faker().address().state()),
-            Map.entry("country", () -> faker().address().country()),
-            Map.entry("zipCode", () -> faker().address().zipCode()),
-            Map.entry("company", () -> faker().company().name()),
-            Map.entry("title", () -> faker().job().title()),
-            Map.entry("createdAt", () -> Instant.now().toString()),
-            Map.entry("updatedAt", () -> Instant.now().toString()),
-            Map.entry("uuid", () -> UUID.randomUUID().toString()),
-            Map.entry("url", () -> faker().internet().url())
+    private static final Map<String, Generator> FAKER_FIELD_GENERATORS = Map.ofEntries(
+            Map.entry("id", s -> s.faker.number().numberBetween(1, 100000)),
+            Map.entry("name", s -> s.faker.name().fullName()),
+            Map.entry("firstName", s -> s.faker.name().firstName()),
+            Map.entry("lastName", s -> s.faker.name().lastName()),
+            Map.entry("username", s -> s.faker.name().username()),
+            Map.entry("email", s -> s.faker.internet().emailAddress()),
+            Map.entry("phone", s -> s.faker.phoneNumber().cellPhone()),
+            Map.entry("city", s -> s.faker.address().city()),
+            Map.entry("state", s -> s.faker.address().state()),
+            Map.entry("country", s -> s.faker.address().country()),
+            Map.entry("zipCode", s -> s.faker.address().zipCode()),
+            Map.entry("company", s -> s.faker.company().name()),
+            Map.entry("title", s -> s.faker.job().title()),
+            Map.entry("createdAt", s -> s.now().toString()),
+            Map.entry("updatedAt", s -> s.now().toString()),
+            Map.entry("uuid", s -> s.uuid().toString()),
+            Map.entry("url", s -> s.faker.internet().url())
     );
 
     // Type-based generators
-    private final Map<String, Supplier<Object>> typeGenerators = Map.ofEntries(
-            Map.entry("string", () -> faker().lorem().word()),
-            Map.entry("number", () -> faker().number().numberBetween(1, 1000)),
-            Map.entry("boolean", () -> faker().bool().bool()),
+    private static final Map<String, Generator> FAKER_TYPE_GENERATORS = Map.ofEntries(
+            Map.entry("string", s -> s.faker.lorem().word()),
+            Map.entry("number", s -> s.faker.number().numberBetween(1, 1000)),
+            Map.entry("boolean", s -> s.faker.bool().bool()),
 
-            Map.entry("email", () -> faker().internet().emailAddress()),
+            Map.entry("email", s -> s.faker.internet().emailAddress()),
 
-            Map.entry("date", () -> LocalDate.now().toString()),
-            Map.entry("datetime", () -> Instant.now().toString()),
+            Map.entry("date", s -> s.today().toString()),
+            Map.entry("datetime", s -> s.now().toString()),
 
-            Map.entry("uuid", () -> UUID.randomUUID().toString()),
-            Map.entry("url", () -> faker().internet().url()),
+            Map.entry("uuid", s -> s.uuid().toString()),
+            Map.entry("url", s -> s.faker.internet().url()),
 
-            Map.entry("null", () -> null),
+            Map.entry("null", s -> null),
 
-            Map.entry("array", () -> List.of(
-                    faker().lorem().word(),
-                    faker().number().randomDigit()
+            Map.entry("array", s -> List.of(
+                    s.faker.lorem().word(),
+                    s.faker.number().randomDigit()
             )),
 
-            Map.entry("object", () -> Map.of(
-                    "value", faker().lorem().word()
+            Map.entry("object", s -> Map.of(
+                    "value", s.faker.lorem().word()
             )),
 
-            Map.entry("json", () -> Map.of(
-                    "key", faker().lorem().word()
+            Map.entry("json", s -> Map.of(
+                    "key", s.faker.lorem().word()
             ))
     );
 
+    private final Map<String, Generator> fieldGenerators;
+    private final Map<String, Generator> typeGenerators;
+
+    public MockAutoGenerateServiceImpl() {
+        this("corpus");
+    }
+
+    /**
+     * @param mode {@code corpus} (default): hot fields are composed from
+     *             {@link GeneratorCorpus}, everything else uses Faker;
+     *             {@code faker}: every value comes from Faker
+     */
+    @Autowired
+    public MockAutoGenerateServiceImpl(@Value("${mockify.records.generators:corpus}") String mode) {
+        GeneratorCorpus corpus = "corpus".equalsIgnoreCase(mode) ? loadCorpus() : null;
+
+        Map<String, Generator> fields = new HashMap<>(FAKER_FIELD_GENERATORS);
+        Map<String, Generator> types = new HashMap<>(FAKER_TYPE_GENERATORS);
+
+        if (corpus != null) {
+            fields.put("name", s -> corpus.fullName(s.random));
+            fields.put("firstName", s -> corpus.firstName(s.random));
+            fields.put("lastName", s -> corpus.lastName(s.random));
+            fields.put("username", s -> corpus.username(s.random));
+            fields.put("email", s -> corpus.email(s.random));
+            fields.put("city", s -> corpus.city(s.random));
+            fields.put("state", s -> corpus.state(s.random));
+            fields.put("country", s -> corpus.country(s.random));
+            fields.put("zipCode", s -> corpus.zipCode(s.random));
+            fields.put("company", s -> corpus.company(s.random));
+            fields.put("id", s -> 1 + s.random.nextInt(99999));
+
+            types.put("string", s -> corpus.word(s.random));
+            types.put("number", s -> 1 + s.random.nextInt(999));
+            types.put("boolean", s -> s.random.nextBoolean());
+            types.put("email", s -> corpus.email(s.random));
+            types.put("array", s -> List.of(corpus.word(s.random), s.random.nextInt(10)));
+            types.put("object", s -> Map.of("value", corpus.word(s.random)));
+            types.put("json", s -> Map.of("key", corpus.word(s.random)));
+        }
+
+        this.fieldGenerators = Map.copyOf(fields);
+        this.typeGenerators = Map.copyOf(types);
+    }
+
+    private static GeneratorCorpus loadCorpus() {
+        try {
+            return GeneratorCorpus.load();
+        } catch (RuntimeException e) {
+            log.warn("Generator corpus unavailable, using Faker for every field", e);
+            return null;
+        }
+    }
+
     @Override
     public Map<String, Object> generateRecord(Map<String, Object> schemaJson) {
+        return compile(schemaJson).generate();
+    }
+
+    @Override
+    public GenerationPlan compile(Map<String, Object> schemaJson) {
 
         if (schemaJson == null) {
             throw new IllegalArgumentException("Schema cannot be null");
         }
 
-        Map<String, Object> record = new LinkedHashMap<>();
+        String[] fields = new String[schemaJson.size()];
+        Generator[] generators = new Generator[schemaJson.size()];
 
+        int i = 0;
         for (Map.Entry<String, Object> entry : schemaJson.entrySet()) {
 
             String field = entry.getKey();
-            Object schemaDef = entry.getValue();
+            ParsedSchema parsed = parseSchema(field, entry.getValue());
 
-            ParsedSchema parsed = parseSchema(field, schemaDef);
+            fields[i] = field;
+            generators[i] = resolveGenerator(field, parsed);
+            i++;
+        }
 
-            Supplier<Object> generator =
-                    resolveGenerator(field, parsed);
+        return new CompiledPlan(fields, generators);
+    }
+
+    /**
+     * Field names and their generators in schema order, resolved once per
+     * schema. Produces a right-sized map per record.
+     */
+    private static final class CompiledPlan implements GenerationPlan {
+
+        private final String[] fields;
+        private final Generator[] generators;
 
-            record.put(field, generator.get());
+        private CompiledPlan(String[] fields, Generator[] generators) {
+            this.fields = fields;
+            this.generators = generators;
         }
 
-        return record;
+        @Override
+        public Map<String, Object> generate() {
+            return generate(UNSEEDED.get());
+        }
+
+        @Override
+        public List<Map<String, Object>> generateChunk(int count, Long seed) {
+            Source source = UNSEEDED.get();
+            if (seed != null) {
+                source = SEEDED.get();
+                source.random.setSeed(seed);
+            }
+
+            List<Map<String, Object>> records = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                records.add(generate(source));
+            }
+            return records;
+        }
+
+        private Map<String, Object> generate(Source source) {
+            Map<String, Object> record = LinkedHashMap.newLinkedHashMap(fields.length);
+            for (int i = 0; i < fields.length; i++) {
+                record.put(fields[i], generators[i].generate(source));
+            }
+            return record;
+        }
+    }
+
+    /**
+     * Produces one field value from the calling thread's {@link Source}.
+     */
+    @FunctionalInterface
+    private interface Generator {
+        Object generate(Source source);
+    }
+
+    /**
+     * Everything a generator may draw from. All randomness goes through
+     * {@code random}, so reseeding it replays the same values.
+     */
+    private static final class Source {
+
+        private final Random random;
+        private final Faker faker;
+        private final Instant referenceTime;
+
+        private Source(Random random, Instant referenceTime) {
+            this.random = random;
+            this.faker = new Faker(random);
+            this.referenceTime = referenceTime;
+        }
+
+        Instant now() {
+            return referenceTime != null ? referenceTime : Instant.now();
+        }
+
+        LocalDate today() {
+            return referenceTime != null ? LocalDate.ofInstant(referenceTime, ZoneOffset.UTC) : LocalDate.now();
+        }
+
+        // Version 4 layout, drawn from the source's Random
+        UUID uuid() {
+            long msb = (random.nextLong() & ~0xF000L) | 0x4000L;
+            long lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            return new UUID(msb, lsb);
+        }
     }
 
     /**
      * Explicit schema type always wins.
      * Field-name generators are only used for generic string fields.
      */
-    private Supplier<Object> resolveGenerator(
+    private Generator resolveGenerator(
             String field,
             ParsedSchema parsed
     ) {
 
-        Supplier<Object> typeGenerator =
+        Generator typeGenerator =
                 resolveTypeGenerator(
                         parsed.type(),
                         parsed.enumValues()
@@ -169,7 +319,7 @@ public class MockAutoGenerateServiceImpl implements MockAutoGenerateService {
      * Safer field-name matching.
      * Only applied for STRING schema types.
      */
-    private Optional<Supplier<Object>> resolveFieldGenerator(
+    private Optional<Generator> resolveFieldGenerator(
             String field
     ) {
 
@@ -231,7 +381,7 @@ public class MockAutoGenerateServiceImpl implements MockAutoGenerateService {
     /**
      * Type-based generator with ENUM support
      */
-    private Supplier<Object> resolveTypeGenerator(
+    private Generator resolveTypeGenerator(
             String type,
             List<?> enumValues
     ) {
@@ -244,13 +394,12 @@ public class MockAutoGenerateServiceImpl implements MockAutoGenerateService {
                 );
             }
 
-            return () -> enumValues.get(
-                    ThreadLocalRandom.current()
-                            .nextInt(enumValues.size())
+            return source -> enumValues.get(
+                    source.random.nextInt(enumValues.size())
             );
         }
 
-        Supplier<Object> generator =
+        Generator generator =
                 typeGenerators.get(type);
 
         if (generator == null) {
@@ -1,40 +1,85 @@
 package com.mockify.backend.service.impl;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.mockify.backend.common.enums.RecordExportFormat;
 import com.mockify.backend.common.validation.PageableValidator;
 import com.mockify.backend.dto.request.record.CreateMockRecordRequest;
 import com.mockify.backend.dto.request.record.UpdateMockRecordRequest;
+import com.mockify.backend.dto.response.record.MockRecordExportRow;
 import com.mockify.backend.dto.response.record.MockRecordResponse;
+import com.mockify.backend.dto.response.record.RecordExport;
+import com.mockify.backend.dto.response.record.RecordImportSummary;
 import com.mockify.backend.exception.BadRequestException;
 import com.mockify.backend.exception.ResourceNotFoundException;
+import com.mockify.backend.infrastructure.MockRecordBatchWriter;
+import com.mockify.backend.infrastructure.RecordGenerationEngine;
 import com.mockify.backend.mapper.MockRecordMapper;
 import com.mockify.backend.model.MockRecord;
 import com.mockify.backend.model.MockSchema;
 import com.mockify.backend.repository.MockRecordRepository;
 import com.mockify.backend.repository.MockSchemaRepository;
+import com.mockify.backend.security.SchemaAccess;
+import com.mockify.backend.security.SchemaAccessGuard;
 import com.mockify.backend.service.MockAutoGenerateService;
 import com.mockify.backend.service.MockRecordService;
 import com.mockify.backend.service.MockValidatorService;
+import com.mockify.backend.util.RecordCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MockRecordServiceImpl implements MockRecordService {
 
+    private static final int RECORD_TTL_DAYS = 7;
+
+    // Cap on failed line numbers echoed back by a stream import
+    private static final int MAX_REPORTED_FAILURES = 1_000;
+
+    private static final TypeReference<Map<String, Object>> RECORD_DATA_TYPE = new TypeReference<>() {};
+
     private final MockRecordRepository mockRecordRepository;
     private final MockSchemaRepository mockSchemaRepository;
     private final MockRecordMapper mockRecordMapper;
     private final MockValidatorService mockValidatorService;
     private final MockAutoGenerateService autoGenerateService;
+    private final MockRecordBatchWriter mockRecordBatchWriter;
+    private final RecordGenerationEngine recordGenerationEngine;
+    private final ObjectMapper objectMapper;
+    private final SchemaAccessGuard schemaAccessGuard;
+
+    @Value("${mockify.records.import-max-line-chars:1048576}")
+    private int importMaxLineChars;
 
     @Override
     @Transactional
@@ -48,7 +93,7 @@ public class MockRecordServiceImpl implements MockRecordService {
                 .orElseThrow(() -> new ResourceNotFoundException("Schema not found"));
 
         // VALIDATE DATA
-        mockValidatorService.validateRecordAgainstSchema(schema.getSchemaJson(), request.getData());
+        mockValidatorService.validateRecordAgainstSchema(schema, request.getData());
 
         MockRecordResponse response = persistRecord(schema, request);
         log.info("Record created in schema {} by user {}", schemaId, userId);
@@ -75,12 +120,20 @@ public class MockRecordServiceImpl implements MockRecordService {
     }
 
     // Auto generate records
+    /**
+     * Generates {@code count} records through {@link RecordGenerationEngine}.
+     *
+     * <p>Chunks are validated as they arrive and flushed through
+     * {@link MockRecordBatchWriter} every {@code batch-size} rows, while later
+     * chunks are still being generated. The same {@code seed} reproduces the
+     * same record data; ids and timestamps are always fresh.</p>
+     */
     @Override
     @Transactional
     @PreAuthorize("hasPermission(#schemaId, 'SCHEMA', 'RECORD:WRITE')")
-    public List<MockRecordResponse> autoGenerateRecordsBulk(UUID userId, UUID schemaId, int count) {
+    public List<MockRecordResponse> autoGenerateRecordsBulk(UUID userId, UUID schemaId, int count, Long seed) {
 
-        log.info("Auto-generate requested by userId={} count={}", userId, count);
+        log.info("Auto-generate requested by userId={} count={} seed={}", userId, count, seed);
 
         MockSchema schema = mockSchemaRepository.findById(schemaId)
                 .orElseThrow(() -> new ResourceNotFoundException("Schema not found"));
@@ -90,24 +143,136 @@ public class MockRecordServiceImpl implements MockRecordService {
         // VALIDATE SCHEMA
         mockValidatorService.validateSchemaDefinition(schemaJson);
 
-        List<CreateMockRecordRequest> requests = new ArrayList<>();
+        // Generators are resolved once for the whole batch
+        MockAutoGenerateService.GenerationPlan plan = autoGenerateService.compile(schemaJson);
+
+        int batchSize = mockRecordBatchWriter.getBatchSize();
 
-        for (int i = 0; i < count; i++) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusDays(RECORD_TTL_DAYS);
 
-            Map<String, Object> record =
-                    autoGenerateService.generateRecord(schemaJson);
+        List<MockRecordResponse> responses = new ArrayList<>(count);
+        List<MockRecord> batch = new ArrayList<>(batchSize);
 
-            // VALIDATE GENERATED RECORD
-            mockValidatorService.validateRecordAgainstSchema(schemaJson, record);
+        recordGenerationEngine.generate(plan, count, seed, chunk -> {
+            for (Map<String, Object> record : chunk) {
 
-            CreateMockRecordRequest req = new CreateMockRecordRequest();
-            req.setData(record);
-            requests.add(req);
+                // VALIDATE GENERATED RECORD
+                mockValidatorService.validateRecordAgainstSchema(schema, record);
+
+                CreateMockRecordRequest req = new CreateMockRecordRequest();
+                req.setData(record);
+                batch.add(newBulkRecord(schema, req, now, expiresAt));
+
+                if (batch.size() >= batchSize) {
+                    flushGenerated(batch, responses);
+                }
+            }
+        });
+
+        flushGenerated(batch, responses);
+
+        log.info("Auto-generated {} records in schema {} by user {}", count, schemaId, userId);
+
+        return responses;
+    }
+
+    /**
+     * Imports records from an NDJSON stream, one record {@code data} object per line.
+     *
+     * <p>Lines are parsed one at a time and validated against the compiled schema;
+     * valid records are buffered and flushed through {@link MockRecordBatchWriter}
+     * every {@code batch-size} rows, so memory stays flat regardless of input size.
+     * Malformed or invalid lines, and lines longer than {@code import-max-line-chars},
+     * are skipped and reported by line number instead of failing the whole import.</p>
+     *
+     * <p>Not one transaction: each flushed batch commits on its own, so neither
+     * memory nor transaction size grows with the input. If the stream breaks
+     * mid-import, the batches flushed before the break stay imported.</p>
+     */
+    @Override
+    @PreAuthorize("hasPermission(#schemaId, 'SCHEMA', 'RECORD:WRITE')")
+    public RecordImportSummary importRecordsStream(UUID userId, UUID schemaId, InputStream ndjson) {
+
+        long start = System.currentTimeMillis();
+
+        MockSchema schema = mockSchemaRepository.findById(schemaId)
+                .orElseThrow(() -> new ResourceNotFoundException("Schema not found"));
+
+        // One object per line: '{"a":1} x' or '{}{}' is a failed line, not its first object
+        ObjectReader lineReader = objectMapper.readerFor(RECORD_DATA_TYPE)
+                .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        int batchSize = mockRecordBatchWriter.getBatchSize();
+        int maxLineChars = Math.max(1, importMaxLineChars);
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusDays(RECORD_TTL_DAYS);
+
+        List<MockRecord> batch = new ArrayList<>(batchSize);
+        List<Long> failedLines = new ArrayList<>();
+        StringBuilder line = new StringBuilder();
+        long received = 0;
+        long inserted = 0;
+        long failed = 0;
+        long lineNumber = 0;
+
+        try (Reader reader = new InputStreamReader(ndjson, StandardCharsets.UTF_8)) {
+
+            NdjsonLines lines = new NdjsonLines(reader);
+            long lineLength;
+            while ((lineLength = lines.next(line, maxLineChars)) >= 0) {
+                lineNumber++;
+
+                String text = lineLength <= maxLineChars ? line.toString() : null;
+                if (text != null && text.isBlank()) {
+                    continue;
+                }
+                received++;
+
+                try {
+                    if (text == null) {
+                        throw new BadRequestException("Line exceeds " + maxLineChars + " characters");
+                    }
+                    Map<String, Object> data = lineReader.readValue(text);
+                    mockValidatorService.validateRecordAgainstSchema(schema, data);
+
+                    CreateMockRecordRequest req = new CreateMockRecordRequest();
+                    req.setData(data);
+                    batch.add(newBulkRecord(schema, req, now, expiresAt));
+                } catch (JsonProcessingException | BadRequestException e) {
+                    failed++;
+                    if (failedLines.size() < MAX_REPORTED_FAILURES) {
+                        failedLines.add(lineNumber);
+                    }
+                    continue;
+                }
+
+                if (batch.size() >= batchSize) {
+                    mockRecordBatchWriter.insertAll(batch);
+                    inserted += batch.size();
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("NDJSON import into schema {} broke at line {} after {} records", schemaId, lineNumber, inserted, e);
+            throw new BadRequestException("Failed to read NDJSON import stream at line " + (lineNumber + 1)
+                    + "; " + inserted + " records were imported before it");
         }
 
-        log.info("Auto-generating {} records in schema {} by user {}", count, schemaId, userId);
+        mockRecordBatchWriter.insertAll(batch);
+        inserted += batch.size();
 
-        return persistRecordsBulk(schema, requests, false);
+        long elapsed = System.currentTimeMillis() - start;
+        log.info("Stream import into schema {} by user {}: received={}, inserted={}, failed={} in {} ms",
+                schemaId, userId, received, inserted, failed, elapsed);
+
+        return RecordImportSummary.builder()
+                .received(received)
+                .inserted(inserted)
+                .failed(failed)
+                .failedLines(failedLines)
+                .elapsedMs(elapsed)
+                .build();
     }
 
     @Override
@@ -122,6 +287,31 @@ public class MockRecordServiceImpl implements MockRecordService {
         return mockRecordMapper.toResponse(record);
     }
 
+    /**
+     * Slug-addressed record read in two round-trips: {@link SchemaAccessGuard}
+     * resolves the path and the caller's role in one query and authorizes on it,
+     * then the record is loaded scoped to that schema. Authorization is done by
+     * the guard, hence no {@code @PreAuthorize} here.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MockRecordResponse getRecordByPath(
+            UUID userId,
+            String orgSlug,
+            String projectSlug,
+            String schemaSlug,
+            UUID recordId
+    ) {
+        SchemaAccess access = schemaAccessGuard.authorize(
+                orgSlug, projectSlug, schemaSlug, recordId, "RECORD", "READ");
+
+        MockRecord record = mockRecordRepository.findByIdAndMockSchema_Id(recordId, access.schemaId())
+                .orElseThrow(() -> new ResourceNotFoundException("Record not found"));
+
+        log.debug("User {} fetched record {} under schema {}", userId, recordId, access.schemaId());
+        return mockRecordMapper.toResponse(record);
+    }
+
     @Override
     @Transactional(readOnly = true)
     @PreAuthorize("hasPermission(#schemaId, 'SCHEMA', 'RECORD:READ')")
@@ -144,6 +334,67 @@ public class MockRecordServiceImpl implements MockRecordService {
         return recordsPage.map(mockRecordMapper::toResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasPermission(#schemaId, 'SCHEMA', 'RECORD:READ')")
+    public Slice<MockRecordResponse> getRecordSliceBySchemaId(UUID userId, UUID schemaId, String cursor, int size) {
+
+        PageableValidator.validateSize(size, 50);
+        Pageable pageable = PageRequest.of(0, size);
+
+        RecordCursor position = cursor == null || cursor.isBlank() ? null : RecordCursor.decode(cursor);
+        Slice<MockRecord> slice = mockRecordRepository.findSlice(schemaId, position, pageable);
+
+        log.debug("User {} fetching record slice size={} under schema {}", userId, size, schemaId);
+
+        return slice.map(mockRecordMapper::toResponse);
+    }
+
+    /**
+     * Checks read access and resolves the schema of an export. Runs on the
+     * request thread, so a denied caller or a missing schema gets a 403/404
+     * before the streaming response and its headers are committed.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasPermission(#schemaId, 'SCHEMA', 'RECORD:READ')")
+    public RecordExport prepareExport(UUID userId, UUID schemaId, RecordExportFormat format) {
+        MockSchema schema = mockSchemaRepository.findById(schemaId)
+                .orElseThrow(() -> new ResourceNotFoundException("Schema not found"));
+
+        return new RecordExport(schemaId, format, List.copyOf(schema.getSchemaJson().keySet()));
+    }
+
+    /**
+     * Streams every record of a prepared export to {@code out} as NDJSON or CSV.
+     *
+     * <p>Rows come from a fetch-sized, forward-only cursor as unmanaged
+     * {@link MockRecordExportRow}s and are written as they arrive, so memory use
+     * does not grow with the schema size. Runs on the MVC async thread that
+     * drives the response.</p>
+     *
+     * @return number of records written
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasPermission(#export.schemaId(), 'SCHEMA', 'RECORD:READ')")
+    public long exportRecords(UUID userId, RecordExport export, OutputStream out) throws IOException {
+
+        long start = System.currentTimeMillis();
+
+        long written;
+        try (Stream<MockRecordExportRow> rows = mockRecordRepository.streamExportRows(export.schemaId())) {
+            written = switch (export.format()) {
+                case NDJSON -> writeNdjson(rows, out);
+                case CSV -> writeCsv(rows, export.columns(), out);
+            };
+        }
+
+        log.info("User {} exported {} records from schema {} as {} in {} ms",
+                userId, written, export.schemaId(), export.format(), System.currentTimeMillis() - start);
+        return written;
+    }
+
     @Override
     @Transactional
     @PreAuthorize("hasPermission(#recordId, 'RECORD', 'WRITE')")
@@ -159,7 +410,7 @@ public class MockRecordServiceImpl implements MockRecordService {
 
         if (request.getData() != null) {
             mockValidatorService.validateRecordAgainstSchema(
-                    record.getMockSchema().getSchemaJson(),
+                    record.getMockSchema(),
                     request.getData());
         }
 
@@ -183,17 +434,6 @@ public class MockRecordServiceImpl implements MockRecordService {
         mockRecordRepository.delete(record);
     }
 
-    @Transactional
-    void deleteExpiredRecords() {
-        log.info("Deleting expired records...");
-        List<MockRecord> expired =
-                mockRecordRepository.findByExpiresAtBefore(LocalDateTime.now());
-
-        mockRecordRepository.deleteAll(expired);
-
-        log.info("Expired records deleted count={}", expired.size());
-    }
-
     @Override
     @Transactional(readOnly = true)
     public long countRecords() {
@@ -207,6 +447,10 @@ public class MockRecordServiceImpl implements MockRecordService {
     /**
      * Shared bulk persistence helper.
      *
+     * <p>Validates every record first, then writes them through
+     * {@link MockRecordBatchWriter} in JDBC batches. Ids and timestamps are
+     * assigned here so the whole batch shares one creation instant.</p>
+     *
      * <p>Do NOT annotate this method with {@code @PreAuthorize} — callers are
      * responsible for ensuring authorisation has already been verified.</p>
      */
@@ -216,30 +460,141 @@ public class MockRecordServiceImpl implements MockRecordService {
             boolean validate
     ) {
 
-        Map<String, Object> schemaJson = schema.getSchemaJson();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusDays(RECORD_TTL_DAYS);
 
-        return requests.stream()
-                .map(req -> {
+        List<MockRecord> records = new ArrayList<>(requests.size());
 
-                    if (req == null || req.getData() == null)
-                        throw new BadRequestException("Record data cannot be null");
+        for (CreateMockRecordRequest req : requests) {
 
-                    if (validate) {
-                        mockValidatorService.validateRecordAgainstSchema(
-                                schemaJson,
-                                req.getData()
-                        );
-                    }
+            if (req == null || req.getData() == null)
+                throw new BadRequestException("Record data cannot be null");
+
+            if (validate) {
+                mockValidatorService.validateRecordAgainstSchema(
+                        schema,
+                        req.getData()
+                );
+            }
 
-                    return persistRecord(schema, req);
-                })
+            records.add(newBulkRecord(schema, req, now, expiresAt));
+        }
+
+        mockRecordBatchWriter.insertAll(records);
+
+        return records.stream()
+                .map(mockRecordMapper::toResponse)
                 .toList();
     }
 
+    private void flushGenerated(List<MockRecord> batch, List<MockRecordResponse> responses) {
+        mockRecordBatchWriter.insertAll(batch);
+        for (MockRecord record : batch) {
+            responses.add(mockRecordMapper.toResponse(record));
+        }
+        batch.clear();
+    }
+
+    private long writeNdjson(Stream<MockRecordExportRow> rows, OutputStream out) throws IOException {
+        // The generator buffers; flushing per row would hit the socket once per record
+        ObjectWriter rowWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.setRootValueSeparator(null);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            for (Iterator<MockRecordExportRow> it = rows.iterator(); it.hasNext(); ) {
+                rowWriter.writeValue(generator, it.next());
+                generator.writeRaw('\n');
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private long writeCsv(Stream<MockRecordExportRow> rows, List<String> fields, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        writer.write("id,created_at,expires_at");
+        for (String field : fields) {
+            writer.write(',');
+            writer.write(csvEscape(field));
+        }
+        writer.write("\r\n");
+
+        long count = 0;
+        for (Iterator<MockRecordExportRow> it = rows.iterator(); it.hasNext(); ) {
+            MockRecordExportRow row = it.next();
+
+            writer.write(row.id().toString());
+            writer.write(',');
+            writer.write(row.createdAt().toString());
+            writer.write(',');
+            writer.write(row.expiresAt().toString());
+            for (String field : fields) {
+                writer.write(',');
+                writer.write(csvCell(row.data().get(field)));
+            }
+            writer.write("\r\n");
+            count++;
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    // Scalars as-is, objects/arrays as embedded JSON, null as an empty cell
+    private String csvCell(Object value) throws IOException {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Map || value instanceof Collection) {
+            return csvEscape(objectMapper.writeValueAsString(value));
+        }
+        return csvEscape(value.toString());
+    }
+
+    // RFC 4180 quoting
+    private static String csvEscape(String value) {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                needsQuotes = true;
+                break;
+            }
+        }
+        if (!needsQuotes) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Builds a record for the batch writer: application-assigned id and a
+     * creation instant shared by the whole batch.
+     */
+    private MockRecord newBulkRecord(
+            MockSchema schema,
+            CreateMockRecordRequest request,
+            LocalDateTime now,
+            LocalDateTime expiresAt
+    ) {
+        MockRecord record = mockRecordMapper.toEntity(request);
+        record.setId(UUID.randomUUID());
+        record.setMockSchema(schema);
+        record.setCreatedAt(now);
+        record.setUpdatedAt(now);
+        record.setExpiresAt(expiresAt);
+        return record;
+    }
+
     /**
      * Persists a single record against an already-loaded and already-authorised
-     * schema. private so it can be called by both {@link #createRecord}
-     * and {@link #createRecordsBulk} only
+     * schema. Used by {@link #createRecord} only; bulk paths go through
+     * {@link #persistRecordsBulk}.
      *
      * <p>Do NOT annotate this method with {@code @PreAuthorize} — callers are
      * responsible for ensuring authorisation has already been verified.</p>
@@ -248,8 +603,71 @@ public class MockRecordServiceImpl implements MockRecordService {
         MockRecord record = mockRecordMapper.toEntity(request);
         record.setMockSchema(schema);
         record.setCreatedAt(LocalDateTime.now());
-        record.setExpiresAt(LocalDateTime.now().plusDays(7));
+        record.setExpiresAt(LocalDateTime.now().plusDays(RECORD_TTL_DAYS));
         mockRecordRepository.save(record);
         return mockRecordMapper.toResponse(record);
     }
-}
\ No newline at end of file
+
+    /**
+     * Splits a character stream into {@code \n}-terminated lines, reading it in
+     * blocks rather than a character at a time.
+     */
+    private static final class NdjsonLines {
+
+        private final Reader reader;
+        private final char[] buffer = new char[8192];
+        private int position;
+        private int limit;
+
+        private NdjsonLines(Reader reader) {
+            this.reader = reader;
+        }
+
+        /**
+         * Reads the next line into {@code line}, keeping at most {@code maxChars}
+         * of it; the rest of an over-long line is read and dropped, so a single
+         * huge line cannot be buffered whole. A trailing {@code \r} is stripped.
+         *
+         * @return the line's full length, or -1 at end of input
+         */
+        long next(StringBuilder line, int maxChars) throws IOException {
+            line.setLength(0);
+            long length = 0;
+            while (true) {
+                if (position == limit) {
+                    int read = reader.read(buffer, 0, buffer.length);
+                    if (read < 0) {
+                        if (length == 0) {
+                            return -1;
+                        }
+                        break;
+                    }
+                    position = 0;
+                    limit = read;
+                }
+
+                int end = position;
+                while (end < limit && buffer[end] != '\n') {
+                    end++;
+                }
+                int chunk = end - position;
+                if (length < maxChars) {
+                    line.append(buffer, position, (int) Math.min(chunk, maxChars - length));
+                }
+                length += chunk;
+
+                if (end < limit) {
+                    // Consume the newline
+                    position = end + 1;
+                    break;
+                }
+                position = limit;
+            }
+            if (length <= maxChars && !line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+                length--;
+            }
+            return length;
+        }
+    }
+}
@@ -149,6 +149,9 @@ public class MockSchemaServiceImpl implements MockSchemaService {
 
         log.info("Schema {} updated by user {}", schemaId, userId);
         mockSchemaRepository.save(schema);
+
+        // Compiled validators are keyed by schema version; drop the old one eagerly
+        mockValidatorService.evictCompiledSchema(schemaId);
         return mockSchemaMapper.toResponse(schema);
     }
 
@@ -162,7 +165,9 @@ public class MockSchemaServiceImpl implements MockSchemaService {
         MockSchema schema = mockSchemaRepository.findById(schemaId)
                 .orElseThrow(() -> new ResourceNotFoundException("Schema not found"));
         log.warn("Schema {} deleted by user {}", schemaId, userId);
+        endpointService.evictEndpointPaths(schemaId, "schema");
         mockSchemaRepository.delete(schema);
+        mockValidatorService.evictCompiledSchema(schemaId);
     }
 
     /*
@@ -1,12 +1,17 @@
 package com.mockify.backend.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mockify.backend.exception.BadRequestException;
+import com.mockify.backend.model.MockSchema;
 import com.mockify.backend.service.MockValidatorService;
 import org.apache.commons.validator.routines.EmailValidator;
 import org.springframework.stereotype.Service;
 
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.util.*;
 
@@ -37,6 +42,14 @@ public class MockValidatorServiceImpl implements MockValidatorService {
         ENUM("enum"),
         URL("url");
 
+        private static final Map<String, ALLOWED_TYPES> BY_VALUE = new HashMap<>();
+
+        static {
+            for (ALLOWED_TYPES type : values()) {
+                BY_VALUE.put(type.value, type);
+            }
+        }
+
         private final String value;
 
         ALLOWED_TYPES(String value) {
@@ -44,15 +57,23 @@ public class MockValidatorServiceImpl implements MockValidatorService {
         }
 
         public static ALLOWED_TYPES from(String value) {
-            for (ALLOWED_TYPES type : values()) {
-                if (type.value.equalsIgnoreCase(value)) {
-                    return type;
-                }
+            ALLOWED_TYPES type = value == null ? null : BY_VALUE.get(value.toLowerCase(Locale.ROOT));
+            if (type == null) {
+                throw new BadRequestException("Invalid schema type: " + value);
             }
-            throw new BadRequestException("Invalid schema type: " + value);
+            return type;
         }
     }
 
+    /**
+     * Compiled schemas keyed by schema id. Each entry remembers the schema's
+     * {@code updatedAt} so a stale entry is recompiled even if an eviction was missed.
+     */
+    private final Cache<UUID, CompiledSchema> compiledSchemas = Caffeine.newBuilder()
+            .maximumSize(1_000)
+            .expireAfterAccess(Duration.ofMinutes(30))
+            .build();
+
 
     // validateSchemaDefinition
 
@@ -101,6 +122,23 @@ public class MockValidatorServiceImpl implements MockValidatorService {
 
     // Record Validation
 
+    @Override
+    public void validateRecordAgainstSchema(MockSchema schema, Map<String, Object> recordJson) {
+
+        if (recordJson == null) {
+            throw new BadRequestException("Record data cannot be null");
+        }
+
+        compiledSchemaFor(schema).validate(recordJson);
+    }
+
+    @Override
+    public void evictCompiledSchema(UUID schemaId) {
+        if (schemaId != null) {
+            compiledSchemas.invalidate(schemaId);
+        }
+    }
+
     @Override
     public void validateRecordAgainstSchema(
             Map<String, Object> schemaJson,
@@ -273,6 +311,143 @@ public class MockValidatorServiceImpl implements MockValidatorService {
         }
     }
 
+    // Schema compilation
+
+    /**
+     * Returns the compiled form of {@code schema}, compiling and caching it on first use.
+     * Unsaved schemas (no id yet) are compiled but never cached.
+     */
+    private CompiledSchema compiledSchemaFor(MockSchema schema) {
+        if (schema.getId() == null) {
+            return compile(schema.getSchemaJson(), null);
+        }
+
+        CompiledSchema cached = compiledSchemas.getIfPresent(schema.getId());
+        if (cached != null && Objects.equals(cached.version(), schema.getUpdatedAt())) {
+            return cached;
+        }
+
+        CompiledSchema compiled = compile(schema.getSchemaJson(), schema.getUpdatedAt());
+        compiledSchemas.put(schema.getId(), compiled);
+        return compiled;
+    }
+
+    /**
+     * Walks the raw schema JSON once, resolving every field's type and enum values
+     * up front so record validation does no string parsing.
+     */
+    private CompiledSchema compile(Map<String, Object> schemaJson, LocalDateTime version) {
+
+        FieldRule[] fields = new FieldRule[schemaJson.size()];
+        int i = 0;
+
+        for (Map.Entry<String, Object> entry : schemaJson.entrySet()) {
+
+            String field = entry.getKey();
+            Object schemaDef = entry.getValue();
+
+            ALLOWED_TYPES type;
+            List<?> enumValues = null;
+
+            if (schemaDef instanceof String strType) {
+                type = parseType(field, strType);
+            } else if (schemaDef instanceof Map<?, ?> defMap) {
+
+                Object typeObj = defMap.get("type");
+
+                if (typeObj == null) {
+                    throw new BadRequestException(
+                            "Field '" + field + "' schema must define a 'type' property"
+                    );
+                }
+
+                if (!(typeObj instanceof String)) {
+                    throw new BadRequestException(
+                            "Field '" + field + "' schema 'type' must be a string"
+                    );
+                }
+
+                type = parseType(field, (String) typeObj);
+
+                if (type == ALLOWED_TYPES.ENUM && defMap.get("values") instanceof List<?> list) {
+                    enumValues = Collections.unmodifiableList(new ArrayList<>(list));
+                }
+            } else {
+                throw new BadRequestException("Invalid schema definition for field '" + field + "'");
+            }
+
+            Set<Object> enumSet = enumValues == null ? null : new HashSet<>(enumValues);
+            fields[i++] = new FieldRule(field, type, enumValues, enumSet);
+        }
+
+        return new CompiledSchema(fields, Set.copyOf(schemaJson.keySet()), version);
+    }
+
+    /**
+     * Immutable, pre-parsed form of a schema definition.
+     */
+    private final class CompiledSchema {
+
+        private final FieldRule[] fields;
+        private final Set<String> fieldNames;
+        private final LocalDateTime version;
+
+        private CompiledSchema(FieldRule[] fields, Set<String> fieldNames, LocalDateTime version) {
+            this.fields = fields;
+            this.fieldNames = fieldNames;
+            this.version = version;
+        }
+
+        LocalDateTime version() {
+            return version;
+        }
+
+        void validate(Map<String, Object> recordJson) {
+
+            for (FieldRule rule : fields) {
+
+                if (!recordJson.containsKey(rule.name())) {
+                    throw new BadRequestException("Missing field '" + rule.name() + "' in record");
+                }
+
+                validateValue(rule, recordJson.get(rule.name()));
+            }
+
+            // Every schema field is present, so equal sizes means no extra fields
+            if (recordJson.size() == fields.length) {
+                return;
+            }
+
+            for (String field : recordJson.keySet()) {
+                if (!fieldNames.contains(field)) {
+                    throw new BadRequestException("Field '" + field + "' is not allowed in this schema");
+                }
+            }
+        }
+
+        private void validateValue(FieldRule rule, Object value) {
+            if (rule.type() == ALLOWED_TYPES.ENUM) {
+                if (value == null) {
+                    throw new BadRequestException("Field '" + rule.name() + "' cannot be null");
+                }
+                if (rule.enumSet() == null || !rule.enumSet().contains(value)) {
+                    throw new BadRequestException(
+                            "Invalid enum value for field '" + rule.name() + "'. Allowed: " + rule.enumValues()
+                    );
+                }
+                return;
+            }
+
+            validateValueByType(rule.name(), rule.type(), value, null);
+        }
+    }
+
+    /**
+     * A single compiled schema field. {@code enumValues} is kept only for error messages;
+     * lookups go through the hashed {@code enumSet}.
+     */
+    private record FieldRule(String name, ALLOWED_TYPES type, List<?> enumValues, Set<Object> enumSet) {}
+
     // Helper (internal only)
 
     private ALLOWED_TYPES parseType(String field, String typeStr) {
@@ -6,6 +6,7 @@ import com.mockify.backend.dto.response.member.*;
 import com.mockify.backend.exception.*;
 import com.mockify.backend.model.*;
 import com.mockify.backend.repository.*;
+import com.mockify.backend.security.MemberRoleResolver;
 import com.mockify.backend.service.MailService;
 import com.mockify.backend.service.OrganizationMemberService;
 import com.mockify.backend.util.InvitationTokenUtil;
@@ -30,6 +31,7 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
     private final OrganizationRepository orgRepo;
     private final UserRepository userRepo;
     private final MailService mailService;
+    private final MemberRoleResolver memberRoleResolver;
 
     @Value("${app.frontend.url}")
     private String frontendUrl;
@@ -132,6 +134,7 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
                 .build();
 
         memberRepo.save(member);
+        memberRoleResolver.evict(invitation.getOrganization().getId(), acceptingUserId);
         invitation.setAcceptedAt(LocalDateTime.now());
         invitationRepo.save(invitation);
 
@@ -191,6 +194,7 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
 
         target.setRole(request.getRole());
         memberRepo.save(target);
+        memberRoleResolver.evict(orgId, targetUserId);
 
         log.info("Actor {} changed role of user {} in org {} to {}",
                 actorId, targetUserId, orgId, request.getRole());
@@ -214,6 +218,7 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
         }
 
         memberRepo.delete(target);
+        memberRoleResolver.evict(orgId, targetUserId);
         log.warn("User {} removed from org {} by actor {}", targetUserId, orgId, actorId);
     }
 
@@ -253,6 +258,7 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
         }
 
         memberRepo.delete(member);
+        memberRoleResolver.evict(orgId, userId);
         log.info("User {} left org {}", userId, orgId);
     }
 
@@ -290,6 +296,9 @@ public class OrganizationMemberServiceImpl implements OrganizationMemberService
         newOwnerMember.setRole(MemberRole.OWNER);
         memberRepo.save(newOwnerMember);
 
+        memberRoleResolver.evict(orgId, currentOwnerId);
+        memberRoleResolver.evict(orgId, request.getNewOwnerId());
+
         // Keep legacy owner_id column in sync for backward compatibility
         Organization org = orgRepo.findById(orgId)
                 .orElseThrow(() -> new ResourceNotFoundException("Organization not found"));
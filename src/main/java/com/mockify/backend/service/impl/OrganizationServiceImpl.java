@@ -184,6 +184,7 @@ public class OrganizationServiceImpl implements OrganizationService {
 
         Organization organization = organizationRepository.findById(orgId)
                 .orElseThrow(() -> new ResourceNotFoundException("Organization not found with ID: " + orgId));
+        endpointService.evictEndpointPaths(orgId, "organization");
         organizationRepository.delete(organization);
         log.warn("Organization {} deleted by user {}", orgId, userId);
     }
@@ -150,6 +150,7 @@ public class ProjectServiceImpl implements ProjectService {
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found with id: " + projectId));
+        endpointService.evictEndpointPaths(projectId, "project");
         projectRepository.delete(project);
         log.warn("Project {} deleted by user {}", projectId, userId);
     }
@@ -13,12 +13,15 @@ import com.mockify.backend.repository.MockSchemaRepository;
 import com.mockify.backend.repository.OrganizationRepository;
 import com.mockify.backend.repository.ProjectRepository;
 import com.mockify.backend.service.PublicMockRecordService;
+import com.mockify.backend.util.RecordCursor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -69,6 +72,22 @@ public class PublicMockRecordServiceImpl implements PublicMockRecordService {
         return recordsPage.map(mockRecordMapper::toResponse);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<MockRecordResponse> getRecordSliceBySchemaId(UUID schemaId, String cursor, int size) {
+
+        // Validate Page size, protect from abuse
+        PageableValidator.validateSize(size, 20);
+        Pageable pageable = PageRequest.of(0, size);
+
+        RecordCursor position = cursor == null || cursor.isBlank() ? null : RecordCursor.decode(cursor);
+        Slice<MockRecord> slice = mockRecordRepository.findSlice(schemaId, position, pageable);
+
+        log.info("Public user fetching record slice size={} under schemaId {}", size, schemaId);
+
+        return slice.map(mockRecordMapper::toResponse);
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<MockRecordResponse> getRecordsBySlug(
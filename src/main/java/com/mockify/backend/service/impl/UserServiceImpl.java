@@ -5,6 +5,7 @@ import com.mockify.backend.exception.ResourceNotFoundException;
 import com.mockify.backend.mapper.UserMapper;
 import com.mockify.backend.model.User;
 import com.mockify.backend.repository.UserRepository;
+import com.mockify.backend.security.JwtPrincipalResolver;
 import com.mockify.backend.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,6 +23,7 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final JwtPrincipalResolver jwtPrincipalResolver;
 
     // Fetch user details by ID
     @Override
@@ -62,6 +64,7 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new ResourceNotFoundException("Cannot delete, User not found with ID: " + id));
 
         userRepository.delete(user);
+        jwtPrincipalResolver.evict(id);
         log.info("User deleted successfully: {}", id);
     }
 
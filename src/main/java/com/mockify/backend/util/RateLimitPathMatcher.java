@@ -1,19 +1,60 @@
 package com.mockify.backend.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mockify.backend.config.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.server.PathContainer;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
 // PathMatcher class detect which group a request belongs to and decides which rate-limit rule applies to a request.
 public class RateLimitPathMatcher {
 
+    // Cached marker for paths outside every group (Caffeine has no null values)
+    private static final RateLimitMatch NO_MATCH = new RateLimitMatch(null, null);
+
     private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${mockify.cache.rate-limit-route.max-size:10000}")
+    private long routeCacheMaxSize;
+
+    /**
+     * Every group pattern, compiled once, in configuration order: groups as
+     * declared in YAML, then each group's paths as listed. The first match
+     * wins, as before, so overlapping groups keep their declared priority.
+     */
+    private List<Route> routes;
+
+    /**
+     * Recent path → group decisions, including "no group". Bounded, so paths
+     * carrying ids only cost a slot until they are evicted.
+     */
+    private Cache<String, RateLimitMatch> routeCache;
+
+    @PostConstruct
+    void init() {
+        routes = compile(properties.getGroups());
 
-    // Spring utility for matching URL patterns
-    private final AntPathMatcher matcher = new AntPathMatcher();
+        routeCache = Caffeine.newBuilder()
+                .maximumSize(routeCacheMaxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, routeCache, "rate-limit.route");
+    }
 
     /**
         Detects which rate-limit group the request path belongs to.
@@ -22,25 +63,68 @@ public class RateLimitPathMatcher {
         @return matched group configuration or null if no group matches
      */
     public RateLimitMatch match(String path) {
+        RateLimitMatch match = routeCache.get(path, this::route);
 
-        // Iterate over all configured rate-limit groups
-        for (var entry : properties.getGroups().entrySet()) {
+        // No matching group found, no rate limiting applied
+        return match == NO_MATCH ? null : match;
+    }
 
-            String groupName = entry.getKey();     // group identifier
-            var group = entry.getValue();          // group configuration
+    private RateLimitMatch route(String path) {
+        PathContainer container = null;
 
-            // Check each path pattern defined for the group
+        for (Route route : routes) {
+
+            // Cheap literal-prefix check before the full pattern match
+            if (!path.startsWith(route.prefix())) {
+                continue;
+            }
+
+            if (container == null) {
+                container = PathContainer.parsePath(path);
+            }
+
+            if (route.pattern().matches(container)) {
+                return route.match();
+            }
+        }
+
+        return NO_MATCH;
+    }
+
+    private static List<Route> compile(Map<String, RateLimitProperties.GroupLimit> groups) {
+        List<Route> compiled = new ArrayList<>();
+        if (groups == null) {
+            return compiled;
+        }
+
+        // Bound YAML maps keep declaration order
+        groups.forEach((groupName, group) -> {
+            RateLimitMatch match = new RateLimitMatch(groupName, group);
             for (String pattern : group.getPaths()) {
+                compiled.add(new Route(
+                        PathPatternParser.defaultInstance.parse(pattern),
+                        literalPrefix(pattern),
+                        match));
+            }
+        });
 
-                // If the request path matches the pattern, return the group
-                if (matcher.match(pattern, path)) {
-                    return new RateLimitMatch(groupName, group);
-                }
+        return List.copyOf(compiled);
+    }
+
+    // Text before the first segment containing a wildcard or variable, without
+    // the trailing slash: "/api/mock/**" must still match "/api/mock"
+    private static String literalPrefix(String pattern) {
+        int wildcard = pattern.length();
+        for (char c : new char[] {'*', '?', '{'}) {
+            int index = pattern.indexOf(c);
+            if (index >= 0 && index < wildcard) {
+                wildcard = index;
             }
         }
+        return pattern.substring(0, Math.max(0, pattern.lastIndexOf('/', wildcard)));
+    }
 
-        // No matching group found, no rate limiting applied
-        return null;
+    private record Route(PathPattern pattern, String prefix, RateLimitMatch match) {
     }
 
     /**
@@ -0,0 +1,6 @@
+-- Keyset pagination over a schema's records, newest first:
+--   WHERE mock_schema_id = ? AND (created_at, id) < (?, ?)
+--   ORDER BY created_at DESC, id DESC
+-- Scanned backwards, this index serves the seek and the ordering without a sort.
+CREATE INDEX IF NOT EXISTS idx_mock_records_schema_created_id
+    ON mock_records (mock_schema_id, created_at, id);
@@ -0,0 +1,22 @@
+-- Hot-path indexes for mock_records and the dashboard joins that reach it.
+--
+-- Built CONCURRENTLY so existing deployments keep accepting record writes while
+-- the indexes build. Flyway runs a migration made only of non-transactional
+-- statements outside a transaction; keep anything transactional out of this file.
+-- IF NOT EXISTS lets a re-run skip indexes that finished before an interruption
+-- (an INVALID leftover must be dropped by hand first).
+
+-- Expiry sweep: DELETE ... WHERE expires_at < now (deleteExpiredMockRecords,
+-- findByExpiresAtBefore). A partial index cannot help here: the cut-off moves
+-- with every run, so the planner could never prove a fixed predicate matches.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mock_records_expires_at
+    ON mock_records (expires_at);
+
+-- Per-schema expiry stats (schemaStats, projectStats): equality on the schema,
+-- CASE buckets on expires_at, COUNT on id — all answered from the index.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_mock_records_schema_expires
+    ON mock_records (mock_schema_id, expires_at) INCLUDE (id);
+
+-- userStats / recordHealthStats start from the organisations a user owns
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_organizations_owner_id
+    ON organizations (owner_id);
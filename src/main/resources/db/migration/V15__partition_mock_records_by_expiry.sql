@@ -0,0 +1,62 @@
+-- Range-partition mock_records by day of expires_at.
+--
+-- Every record expires a fixed TTL after it is written, so each daily partition
+-- stops receiving rows and then expires as a whole: the cleanup job drops it
+-- (MockRecordPartitionManager) instead of deleting its rows one by one.
+-- Partitions are named mock_records_pYYYYMMDD and cover [day, day + 1); the
+-- maintenance job keeps cleanup.mock-record-partitions.premake-days of them
+-- ahead of today. Rows outside every daily partition land in
+-- mock_records_default and are removed by the chunked row delete.
+--
+-- The primary key must contain the partition key, so it becomes (id, expires_at);
+-- ids stay application-generated UUIDs.
+--
+-- Runs in one transaction: the table is rewritten, so it is locked for the
+-- duration of the copy.
+
+ALTER TABLE mock_records RENAME TO mock_records_unpartitioned;
+ALTER TABLE mock_records_unpartitioned RENAME CONSTRAINT mock_records_pkey TO mock_records_unpartitioned_pkey;
+
+CREATE TABLE mock_records (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    mock_schema_id UUID NOT NULL REFERENCES mock_schemas(id) ON DELETE CASCADE,
+    data JSONB NOT NULL,
+    created_at TIMESTAMP DEFAULT NOW(),
+    expires_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP DEFAULT NOW(),
+    PRIMARY KEY (id, expires_at)
+) PARTITION BY RANGE (expires_at);
+
+CREATE TABLE mock_records_default PARTITION OF mock_records DEFAULT;
+
+-- Today through two weeks ahead, extended to the latest existing expiry
+DO $$
+DECLARE
+    last_day DATE := GREATEST(
+            (SELECT MAX(expires_at)::date FROM mock_records_unpartitioned),
+            CURRENT_DATE + 14);
+    d DATE;
+BEGIN
+    FOR d IN SELECT generate_series(CURRENT_DATE, last_day, INTERVAL '1 day')::date LOOP
+        EXECUTE format(
+                'CREATE TABLE %I PARTITION OF mock_records FOR VALUES FROM (%L) TO (%L)',
+                'mock_records_p' || to_char(d, 'YYYYMMDD'), d, d + 1);
+    END LOOP;
+END $$;
+
+INSERT INTO mock_records (id, mock_schema_id, data, created_at, expires_at, updated_at)
+SELECT id, mock_schema_id, data, created_at, expires_at, updated_at
+FROM mock_records_unpartitioned;
+
+DROP TABLE mock_records_unpartitioned;
+
+-- Same indexes as V13/V14, declared once on the parent and created on every
+-- partition (including future ones). Built after the copy.
+CREATE INDEX idx_mock_records_schema_created_id
+    ON mock_records (mock_schema_id, created_at, id);
+
+CREATE INDEX idx_mock_records_expires_at
+    ON mock_records (expires_at);
+
+CREATE INDEX idx_mock_records_schema_expires
+    ON mock_records (mock_schema_id, expires_at) INCLUDE (id);
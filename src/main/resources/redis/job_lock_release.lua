@@ -0,0 +1,27 @@
+-- Ends a scheduled-job lease held by the caller and records the run.
+--
+-- KEYS[1]           lease key
+-- KEYS[2]           last-run hash of the job
+-- ARGV[1]           token the lease was acquired with
+-- ARGV[2]           millis the lease must still be held (0 = release now)
+-- ARGV[3]           run start, epoch millis
+-- ARGV[4]           run duration, millis
+-- ARGV[5]           run outcome
+--
+-- The run is recorded even if the lease expired under it. Another node's
+-- lease (taken after ours expired) is left untouched.
+-- Returns 1 if the lease was ours, 0 otherwise.
+
+redis.call('HSET', KEYS[2], 'started_at_ms', ARGV[3], 'duration_ms', ARGV[4], 'outcome', ARGV[5])
+
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+
+local hold = tonumber(ARGV[2])
+if hold > 0 then
+    redis.call('PEXPIRE', KEYS[1], hold)
+else
+    redis.call('DEL', KEYS[1])
+end
+return 1
@@ -0,0 +1,117 @@
+-- Rate limit over one or more windows, all-or-nothing.
+--
+-- KEYS[i]           state for window i
+-- ARGV[1]           unique member prefix for this call (sliding window only)
+-- ARGV[2]           permits requested (1 for a single request, more for a lease)
+-- ARGV[3i]          algorithm for window i: SLIDING_WINDOW or GCRA
+-- ARGV[3i + 1]      limit for window i
+-- ARGV[3i + 2]      window length in millis for window i
+--
+-- Time comes from the Redis server clock (TIME), so every node measures
+-- windows against the same clock whatever its own drift.
+--
+-- SLIDING_WINDOW keeps a sorted set of request timestamps (exact).
+-- GCRA keeps a single theoretical arrival time (TAT): a burst of `limit`,
+-- then one request per window / limit.
+--
+-- Grants as many of the requested permits as every window can admit, and
+-- records them in every window, or none if any window is exhausted.
+-- Returns {granted, limit, remaining, resetMillis, headroom} for the first
+-- window that denies, or for the last window when permits are granted.
+-- headroom is the smallest number of permits still available across all
+-- windows after this grant.
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local member = ARGV[1]
+local requested = tonumber(ARGV[2])
+local states = {}
+
+local function sliding_reset_at(key, window)
+    local oldest = redis.call('ZRANGE', key, 0, 0, 'WITHSCORES')
+    if oldest[2] then
+        return tonumber(oldest[2]) + window
+    end
+    return now + window
+end
+
+local function sliding_state(key, limit, window)
+    redis.call('ZREMRANGEBYSCORE', key, 0, now - window)
+    local count = redis.call('ZCARD', key)
+    return {available = limit - count}
+end
+
+local function gcra_state(key, limit, window)
+    local interval = window / limit
+    local tat = tonumber(redis.call('GET', key) or now)
+    if tat < now then
+        tat = now
+    end
+
+    -- Admit while the TAT stays within one window of now; the small tolerance
+    -- absorbs floating-point drift when window / limit is not a whole number
+    local available = math.floor((window + interval / 1000 - (tat - now)) / interval)
+    return {available = available, tat = tat, interval = interval}
+end
+
+local granted = requested
+
+for i, key in ipairs(KEYS) do
+    local algorithm = ARGV[3 * i]
+    local limit = tonumber(ARGV[3 * i + 1])
+    local window = tonumber(ARGV[3 * i + 2])
+
+    local state
+    if algorithm == 'GCRA' then
+        state = gcra_state(key, limit, window)
+    else
+        state = sliding_state(key, limit, window)
+    end
+
+    if state.available <= 0 then
+        local reset
+        if algorithm == 'GCRA' then
+            reset = state.tat + state.interval - window
+        else
+            reset = sliding_reset_at(key, window)
+        end
+        return {0, limit, 0, math.ceil(reset), 0}
+    end
+
+    if state.available < granted then
+        granted = state.available
+    end
+    states[i] = state
+end
+
+local headroom = nil
+
+for i, key in ipairs(KEYS) do
+    local algorithm = ARGV[3 * i]
+    local window = tonumber(ARGV[3 * i + 2])
+    local state = states[i]
+
+    if algorithm == 'GCRA' then
+        state.tat = state.tat + granted * state.interval
+        redis.call('SET', key, string.format('%.17g', state.tat), 'PX', math.ceil(state.tat - now) + 1)
+        state.reset = state.tat
+    else
+        local args = {}
+        for j = 1, granted do
+            args[2 * j - 1] = now
+            args[2 * j] = member .. ':' .. j
+        end
+        redis.call('ZADD', key, unpack(args))
+        redis.call('PEXPIRE', key, window)
+        state.reset = sliding_reset_at(key, window)
+    end
+
+    state.available = state.available - granted
+    if headroom == nil or state.available < headroom then
+        headroom = state.available
+    end
+end
+
+local last = #KEYS
+local limit = tonumber(ARGV[3 * last + 1])
+return {granted, limit, states[last].available, math.ceil(states[last].reset), headroom}
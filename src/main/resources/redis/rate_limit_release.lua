@@ -0,0 +1,43 @@
+-- Returns unused leased permits to one or more windows.
+--
+-- KEYS[i]           state for window i
+-- ARGV[1]           member prefix the permits were leased under (sliding window only)
+-- ARGV[2]           permits to return
+-- ARGV[3i]          algorithm for window i: SLIDING_WINDOW or GCRA
+-- ARGV[3i + 1]      limit for window i
+-- ARGV[3i + 2]      window length in millis for window i
+--
+-- Leased sliding-window members all share the lease timestamp, so removing
+-- any `count` of them is equivalent. GCRA moves the TAT back by `count`
+-- intervals, never behind now (Redis server time, as in rate_limit.lua).
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local member = ARGV[1]
+local count = tonumber(ARGV[2])
+
+for i, key in ipairs(KEYS) do
+    local algorithm = ARGV[3 * i]
+    local limit = tonumber(ARGV[3 * i + 1])
+    local window = tonumber(ARGV[3 * i + 2])
+
+    if algorithm == 'GCRA' then
+        local tat = tonumber(redis.call('GET', key))
+        if tat then
+            tat = tat - count * (window / limit)
+            if tat <= now then
+                redis.call('DEL', key)
+            else
+                redis.call('SET', key, string.format('%.17g', tat), 'PX', math.ceil(tat - now) + 1)
+            end
+        end
+    else
+        local members = {}
+        for j = 1, count do
+            members[j] = member .. ':' .. j
+        end
+        redis.call('ZREM', key, unpack(members))
+    end
+end
+
+return count
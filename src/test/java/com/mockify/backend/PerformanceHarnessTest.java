@@ -0,0 +1,446 @@
+package com.mockify.backend;
+
+import com.mockify.backend.config.RateLimitProperties;
+import com.mockify.backend.dto.response.ratelimit.RateLimitResult;
+import com.mockify.backend.infrastructure.MockRecordBatchWriter;
+import com.mockify.backend.infrastructure.RecordGenerationEngine;
+import com.mockify.backend.infrastructure.RedisRateLimiter;
+import com.mockify.backend.model.*;
+import com.mockify.backend.repository.*;
+import com.mockify.backend.security.ApiKeyCryptoService;
+import com.mockify.backend.service.MockAutoGenerateService.GenerationPlan;
+import com.mockify.backend.service.impl.MockAutoGenerateServiceImpl;
+import com.mockify.backend.util.RateLimitPathMatcher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.AntPathMatcher;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Throughput and latency of the hot paths. Each scenario measures the previous
+ * implementation, kept here as a baseline, next to the current one, in the
+ * same JVM and against the same data.
+ *
+ * <p>Reports figures only: timings depend on the machine and its load, so
+ * nothing here asserts on them; the assertions check that each measured call
+ * did its work. Needs the local Postgres and Redis from {@code compose.yml}.
+ * Skipped unless run with {@code -Dbenchmark=true}, e.g.
+ * {@code ./mvnw test -Dtest=PerformanceHarnessTest -Dbenchmark=true}.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class PerformanceHarnessTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PerformanceHarnessTest.class);
+
+    private static final int ROUNDS = 3;
+    private static final int RECORDS = 100_000;
+    private static final int CHECK_THREADS = 16;
+    private static final int CHECKS_PER_THREAD = 2_000;
+    private static final int CHECK_CLIENTS = 500;
+
+    @Autowired ApiKeyCryptoService cryptoService;
+    @Autowired RateLimitPathMatcher pathMatcher;
+    @Autowired RateLimitProperties rateLimitProperties;
+    @Autowired RedisRateLimiter rateLimiter;
+    @Autowired StringRedisTemplate redis;
+    @Autowired MockRecordBatchWriter batchWriter;
+    @Autowired MockRecordRepository mockRecordRepository;
+    @Autowired MockSchemaRepository mockSchemaRepository;
+    @Autowired ProjectRepository projectRepository;
+    @Autowired OrganizationRepository organizationRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @Test
+    void apiKeyCrypto() {
+        String orgId = UUID.randomUUID().toString();
+        String globalSecret = "benchmark-global-secret-at-least-32-chars";
+        String apiKey = cryptoService.generateApiKey(false);
+        String orgSecret = cryptoService.generateOrgSecret(orgId, globalSecret);
+        String storedHash = cryptoService.hashApiKey(apiKey, orgSecret);
+        assertThat(uncachedHmac(apiKey, orgSecret)).isEqualTo(storedHash);
+
+        throughput("api key: generate", 200_000, () -> cryptoService.generateApiKey(false));
+
+        compare("api key: hash",
+                throughput("api key: hash, uncached", 200_000, () -> uncachedHmac(apiKey, orgSecret)),
+                throughput("api key: hash, cached", 200_000, () -> cryptoService.hashApiKey(apiKey, orgSecret)));
+
+        // The filter path: derive the org secret, then verify
+        compare("api key: verify",
+                throughput("api key: verify, uncached", 200_000, () -> {
+                    assertThat(uncachedVerify(
+                            apiKey, storedHash, uncachedHmac(orgId + ":api-key", globalSecret))).isTrue();
+                    return true;
+                }),
+                throughput("api key: verify, cached", 200_000, () -> {
+                    assertThat(cryptoService.verifyApiKey(
+                            apiKey, storedHash, cryptoService.generateOrgSecret(orgId, globalSecret))).isTrue();
+                    return true;
+                }));
+    }
+
+    @Test
+    void rateLimitRouting() {
+        List<String> hot = new ArrayList<>();
+        List<String> unique = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            hot.add("/api/mock/acme/shop-" + i + "/products");
+            hot.add("/api/acme/shop/products-" + i + "/records");
+            hot.add("/api/auth/login");
+        }
+        for (int i = 0; i < 100_000; i++) {
+            // Every path carries a fresh id: the route cache never hits
+            unique.add("/api/acme/shop/products/records/" + UUID.randomUUID());
+        }
+
+        routing("repeated paths", hot);
+        routing("unique paths", unique);
+    }
+
+    @Test
+    void redisRateLimitCheck() throws Exception {
+        String run = "rate:bench:" + UUID.randomUUID();
+        Duration window = Duration.ofMinutes(1);
+        try {
+            // Previous check: four commands per window, global then group
+            long[] commands = checkLatencies(client -> {
+                RateLimitResult global = commandCheck(run + ":commands:" + client + ":global", window);
+                return global.allowed() ? commandCheck(run + ":commands:" + client + ":group", window) : global;
+            });
+            long[] script = checkLatencies(client -> rateLimiter.check(List.of(
+                    new RedisRateLimiter.Window(run + ":script:" + client + ":global", 1_000_000, window),
+                    new RedisRateLimiter.Window(run + ":script:" + client + ":group", 1_000_000, window))));
+
+            latency("redis rate-limit check: 4 commands per window", commands);
+            latency("redis rate-limit check: one script call", script);
+        } finally {
+            redis.delete(redis.keys(run + ":*"));
+        }
+    }
+
+    @Test
+    void recordGeneration() {
+        Map<String, Object> schema = twentyFieldSchema();
+        MockAutoGenerateServiceImpl service = new MockAutoGenerateServiceImpl();
+        GenerationPlan plan = service.compile(schema);
+
+        // Resolving every field again per record, as before plans were compiled
+        compare("generate: per-record resolution vs compiled plan",
+                throughput("generate: per-record resolution", RECORDS, () -> service.generateRecord(schema)),
+                throughput("generate: compiled plan", RECORDS, plan::generate));
+
+        compare("generate: faker vs corpus generators",
+                throughput("generate: faker generators",
+                        RECORDS, new MockAutoGenerateServiceImpl("faker").compile(schema)::generate),
+                throughput("generate: corpus generators",
+                        RECORDS, new MockAutoGenerateServiceImpl("corpus").compile(schema)::generate));
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        compare("generate: engine, 1 vs " + processors + " worker(s)",
+                engineThroughput(plan, 1), engineThroughput(plan, processors));
+    }
+
+    @Test
+    void bulkInsert() {
+        User owner = newOwner();
+        try {
+            MockSchema schema = newSchema(owner);
+            long expected = 0;
+
+            for (int rows : new int[] {100, 1_000, 10_000}) {
+                // Previous path: one save() per record, in one transaction
+                double perRecord = throughput("bulk insert: save() per record, " + rows + " rows", rows, 1,
+                        () -> transactionTemplate.execute(status -> {
+                            records(schema, rows, false).forEach(mockRecordRepository::save);
+                            return rows;
+                        }));
+                double batched = throughput("bulk insert: batch writer, " + rows + " rows", rows, 1,
+                        () -> batchWriter.insertAll(records(schema, rows, true)));
+                compare("bulk insert: " + rows + " rows", perRecord, batched);
+
+                expected += 2L * rows * (ROUNDS + 1);
+                Long inserted = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM mock_records WHERE mock_schema_id = ?", Long.class, schema.getId());
+                assertThat(inserted).isEqualTo(expected);
+            }
+        } finally {
+            // ON DELETE CASCADE removes the org, project, schema and records
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", owner.getId());
+        }
+    }
+
+    // Previous hashing: a new Mac and key per call
+    private static String uncachedHmac(String input, String secret) {
+        try {
+            Mac hmac = Mac.getInstance("HmacSHA256");
+            hmac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(hmac.doFinal(input.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Previous verification: recompute the hex hash and compare the strings
+    private static boolean uncachedVerify(String apiKey, String storedHash, String secret) {
+        return MessageDigest.isEqual(
+                uncachedHmac(apiKey, secret).getBytes(StandardCharsets.UTF_8),
+                storedHash.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void routing(String label, List<String> paths) {
+        AntPathMatcher ant = new AntPathMatcher();
+        int size = paths.size();
+        int[] next = {0};
+
+        // Unrouted paths yield null; wrap them so every call counts as done
+        double scan = throughput("rate-limit route: AntPathMatcher scan, " + label, 1_000_000,
+                () -> Optional.ofNullable(antScan(ant, paths.get(next[0]++ % size))));
+        double compiled = throughput("rate-limit route: compiled routes, " + label, 1_000_000,
+                () -> Optional.ofNullable(pathMatcher.match(paths.get(next[0]++ % size))));
+        compare("rate-limit route: " + label, scan, compiled);
+    }
+
+    // Previous routing: every pattern of every group, in order, per request
+    private String antScan(AntPathMatcher ant, String path) {
+        for (Map.Entry<String, RateLimitProperties.GroupLimit> group : rateLimitProperties.getGroups().entrySet()) {
+            for (String pattern : group.getValue().getPaths()) {
+                if (ant.match(pattern, path)) {
+                    return group.getKey();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static double engineThroughput(GenerationPlan plan, int workers) {
+        RecordGenerationEngine engine = new RecordGenerationEngine();
+        ReflectionTestUtils.setField(engine, "parallelism", workers);
+        ReflectionTestUtils.invokeMethod(engine, "init");
+        try {
+            return throughput("generate: engine, " + workers + " worker(s)", RECORDS, 1, () -> {
+                AtomicLong generated = new AtomicLong();
+                engine.generate(plan, RECORDS, 42L, chunk -> generated.addAndGet(chunk.size()));
+                assertThat(generated.get()).isEqualTo(RECORDS);
+                return generated;
+            });
+        } finally {
+            ReflectionTestUtils.invokeMethod(engine, "shutdown");
+        }
+    }
+
+    /**
+     * Runs {@code check} from {@link #CHECK_THREADS} threads over
+     * {@link #CHECK_CLIENTS} clients, after a warm-up.
+     *
+     * @return latencies in nanos, sorted
+     */
+    private static long[] checkLatencies(IntFunction<RateLimitResult> check) throws Exception {
+        // Warm up connections and the script cache
+        for (int i = 0; i < 200; i++) {
+            check.apply(i % CHECK_CLIENTS);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(CHECK_THREADS);
+        long[] latencies = new long[CHECK_THREADS * CHECKS_PER_THREAD];
+        try {
+            List<Future<long[]>> futures = new ArrayList<>();
+            for (int t = 0; t < CHECK_THREADS; t++) {
+                int seed = t;
+                futures.add(pool.submit(() -> {
+                    long[] samples = new long[CHECKS_PER_THREAD];
+                    for (int i = 0; i < CHECKS_PER_THREAD; i++) {
+                        long start = System.nanoTime();
+                        assertThat(check.apply((seed * 31 + i) % CHECK_CLIENTS).allowed()).isTrue();
+                        samples[i] = System.nanoTime() - start;
+                    }
+                    return samples;
+                }));
+            }
+            int offset = 0;
+            for (Future<long[]> future : futures) {
+                long[] samples = future.get();
+                System.arraycopy(samples, 0, latencies, offset, samples.length);
+                offset += samples.length;
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    // Previous sliding-window check, limit 1,000,000: trim, count, add, expire
+    private RateLimitResult commandCheck(String key, Duration window) {
+        int limit = 1_000_000;
+        long now = System.currentTimeMillis();
+        ZSetOperations<String, String> zSet = redis.opsForZSet();
+
+        zSet.removeRangeByScore(key, 0, now - window.toMillis());
+        Long requestCount = zSet.zCard(key);
+        long count = requestCount == null ? 0 : requestCount;
+
+        boolean allowed = count < limit;
+        if (allowed) {
+            zSet.add(key, UUID.randomUUID().toString(), now);
+            redis.expire(key, window);
+        }
+
+        long remaining = Math.max(0, limit - (allowed ? count + 1 : count));
+        return new RateLimitResult(allowed, limit, remaining, (now + window.toMillis()) / 1000);
+    }
+
+    /**
+     * One warm-up round, then the best of {@link #ROUNDS}, each calling
+     * {@code op} {@code ops} times.
+     *
+     * @return operations per second of the best round
+     */
+    private static double throughput(String label, int ops, Supplier<?> op) {
+        return throughput(label, ops, ops, op);
+    }
+
+    /**
+     * As {@link #throughput(String, int, Supplier)}, for an {@code op} that
+     * does {@code ops} units of work in {@code calls} calls.
+     */
+    private static double throughput(String label, int ops, int calls, Supplier<?> op) {
+        double best = 0;
+        for (int round = 0; round <= ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < calls; i++) {
+                assertThat(op.get()).isNotNull();
+            }
+            long elapsed = System.nanoTime() - start;
+            if (round > 0) {
+                best = Math.max(best, ops * 1_000_000_000.0 / elapsed);
+            }
+        }
+        log.info("[bench] {}: {} ops/s ({} ns/op)", label,
+                String.format("%,.0f", best), String.format("%,.1f", 1_000_000_000.0 / best));
+        return best;
+    }
+
+    private static void compare(String label, double baselineOpsPerSec, double currentOpsPerSec) {
+        log.info("[bench] {}: {}x", label, String.format("%.2f", currentOpsPerSec / baselineOpsPerSec));
+    }
+
+    private static void latency(String label, long[] sorted) {
+        log.info("[bench] {}: p50={}ms p99={}ms max={}ms ({} threads)", label,
+                millis(percentile(sorted, 50)), millis(percentile(sorted, 99)),
+                millis(sorted[sorted.length - 1]), CHECK_THREADS);
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p / 100.0 * sorted.length) - 1)];
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.2f", nanos / 1e6);
+    }
+
+    private User newOwner() {
+        User owner = new User();
+        owner.setName("Bench");
+        owner.setEmail("bench-" + UUID.randomUUID() + "@test.com");
+        owner.setPassword("hashed");
+        owner.setProviderName("local");
+        owner.setEmailVerified(true);
+        return userRepository.save(owner);
+    }
+
+    private MockSchema newSchema(User owner) {
+        Organization org = new Organization();
+        org.setName("Bench Org");
+        org.setSlug("bench-org-" + UUID.randomUUID());
+        org.setOwner(owner);
+        org = organizationRepository.save(org);
+
+        Project project = new Project();
+        project.setName("Bench Project");
+        project.setSlug("bench-project-" + UUID.randomUUID());
+        project.setOrganization(org);
+        project = projectRepository.save(project);
+
+        MockSchema schema = new MockSchema();
+        schema.setName("Bench Schema");
+        schema.setSlug("bench-schema-" + UUID.randomUUID());
+        schema.setSchemaJson(Map.of("name", "string", "age", "number", "email", "email"));
+        schema.setProject(project);
+        return mockSchemaRepository.save(schema);
+    }
+
+    // The batch writer needs the ids assigned up front; save() generates them
+    private static List<MockRecord> records(MockSchema schema, int count, boolean assignIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MockRecord> records = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            MockRecord record = new MockRecord();
+            if (assignIds) {
+                record.setId(UUID.randomUUID());
+            }
+            record.setMockSchema(schema);
+            record.setData(Map.of("name", "user-" + i, "age", i, "email", "user" + i + "@example.com"));
+            record.setCreatedAt(now);
+            record.setUpdatedAt(now);
+            record.setExpiresAt(now.plusDays(7));
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static Map<String, Object> twentyFieldSchema() {
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("id", "number");
+        schema.put("uuid", "uuid");
+        schema.put("name", "string");
+        schema.put("email", "string");
+        schema.put("username", "string");
+        schema.put("city", "string");
+        schema.put("country", "string");
+        schema.put("company", "string");
+        schema.put("description", "string");
+        schema.put("age", "number");
+        schema.put("score", "number");
+        schema.put("active", "boolean");
+        schema.put("verified", "boolean");
+        schema.put("birthDate", "date");
+        schema.put("createdAt", "datetime");
+        schema.put("website", "url");
+        schema.put("tags", "array");
+        schema.put("metadata", "object");
+        schema.put("status", Map.of("type", "enum", "values", List.of("ACTIVE", "INACTIVE", "PENDING")));
+        schema.put("tier", Map.of("type", "enum", "values", List.of("FREE", "PRO", "ENTERPRISE")));
+        return schema;
+    }
+}
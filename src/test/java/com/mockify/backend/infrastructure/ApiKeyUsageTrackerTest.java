@@ -0,0 +1,86 @@
+package com.mockify.backend.infrastructure;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApiKeyUsageTrackerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ApiKeyUsageTracker tracker;
+
+    @Test
+    void flush_nothingRecorded_doesNotTouchDatabase() {
+        tracker.flush();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void flush_repeatedUsesOfOneKey_coalesceIntoSingleRow() throws Exception {
+        UUID hotKey = UUID.randomUUID();
+        UUID otherKey = UUID.randomUUID();
+        for (int i = 0; i < 100; i++) {
+            tracker.recordUse(hotKey);
+        }
+        tracker.recordUse(otherKey);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        when(jdbcTemplate.update(sql.capture(), setter.capture())).thenReturn(2);
+
+        tracker.flush();
+
+        verify(jdbcTemplate, times(1)).update(anyString(), any(PreparedStatementSetter.class));
+        assertThat(sql.getValue()).contains("UPDATE api_keys").contains("FROM (VALUES");
+
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps);
+        verify(ps).setObject(anyInt(), eq(hotKey));
+        verify(ps).setObject(anyInt(), eq(otherKey));
+        verify(ps, times(2)).setTimestamp(anyInt(), any());
+    }
+
+    @Test
+    void flush_drainsPendingEntries() {
+        tracker.recordUse(UUID.randomUUID());
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenReturn(1);
+
+        tracker.flush();
+        tracker.flush();
+
+        verify(jdbcTemplate, times(1)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    void flush_databaseFailure_retriesOnNextFlush() {
+        tracker.recordUse(UUID.randomUUID());
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(1);
+
+        tracker.flush();
+        tracker.flush();
+
+        verify(jdbcTemplate, times(2)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+}
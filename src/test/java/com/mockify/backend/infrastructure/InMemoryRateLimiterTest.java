@@ -0,0 +1,122 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.common.enums.RateLimitAlgorithm;
+import com.mockify.backend.config.RateLimitProperties;
+import com.mockify.backend.dto.response.ratelimit.RateLimitResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryRateLimiterTest {
+
+    private InMemoryRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new InMemoryRateLimiter(new RateLimitProperties());
+        limiter.init();
+    }
+
+    @Test
+    void admitsUpToLimitThenDenies() {
+        List<RedisRateLimiter.Window> windows = List.of(window("global", 3, Duration.ofMinutes(1)));
+
+        for (int i = 0; i < 3; i++) {
+            RateLimitResult result = limiter.check(windows);
+            assertThat(result.allowed()).isTrue();
+            assertThat(result.remaining()).isEqualTo(2 - i);
+        }
+
+        RateLimitResult denied = limiter.check(windows);
+        assertThat(denied.allowed()).isFalse();
+        assertThat(denied.remaining()).isZero();
+        assertThat(denied.resetEpochSec() * 1000).isGreaterThanOrEqualTo(System.currentTimeMillis());
+    }
+
+    @Test
+    void groupDenialDoesNotConsumeGlobalQuota() {
+        RedisRateLimiter.Window global = window("global", 2, Duration.ofMinutes(1));
+        List<RedisRateLimiter.Window> windows = List.of(global, window("group", 1, Duration.ofMinutes(1)));
+
+        assertThat(limiter.check(windows).allowed()).isTrue();
+        assertThat(limiter.check(windows).allowed()).isFalse();
+
+        // The denied request left the global window's second slot free
+        assertThat(limiter.check(List.of(global)).allowed()).isTrue();
+    }
+
+    @Test
+    void windowSlidesPastOldRequests() throws InterruptedException {
+        List<RedisRateLimiter.Window> windows = List.of(window("global", 1, Duration.ofMillis(100)));
+
+        assertThat(limiter.check(windows).allowed()).isTrue();
+        assertThat(limiter.check(windows).allowed()).isFalse();
+
+        Thread.sleep(150);
+
+        assertThat(limiter.check(windows).allowed()).isTrue();
+    }
+
+    @Test
+    void gcraWindowsAreEnforcedAsSlidingWindows() {
+        List<RedisRateLimiter.Window> windows = List.of(
+                new RedisRateLimiter.Window("rate:ip:1.2.3.4:global", 2, Duration.ofMinutes(1), RateLimitAlgorithm.GCRA));
+
+        assertThat(limiter.check(windows).allowed()).isTrue();
+        assertThat(limiter.check(windows).allowed()).isTrue();
+        assertThat(limiter.check(windows).allowed()).isFalse();
+    }
+
+    @Test
+    void changedLimitStartsANewWindow() {
+        assertThat(limiter.check(List.of(window("global", 1, Duration.ofMinutes(1)))).allowed()).isTrue();
+        assertThat(limiter.check(List.of(window("global", 1, Duration.ofMinutes(1)))).allowed()).isFalse();
+
+        assertThat(limiter.check(List.of(window("global", 5, Duration.ofMinutes(1)))).allowed()).isTrue();
+    }
+
+    @Test
+    void concurrentChecksAdmitExactlyTheSharedLimit() throws Exception {
+        RedisRateLimiter.Window global = window("global", 100, Duration.ofMinutes(1));
+        AtomicInteger admitted = new AtomicInteger();
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                String group = "group-" + t;
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        // Windows listed in both orders across threads: must not deadlock
+                        List<RedisRateLimiter.Window> windows = group.hashCode() % 2 == 0
+                                ? List.of(global, window(group, 1_000, Duration.ofMinutes(1)))
+                                : List.of(window(group, 1_000, Duration.ofMinutes(1)), global);
+                        if (limiter.check(windows).allowed()) {
+                            admitted.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(admitted).hasValue(100);
+    }
+
+    private static RedisRateLimiter.Window window(String group, int limit, Duration length) {
+        return new RedisRateLimiter.Window("rate:ip:1.2.3.4:" + group, limit, length);
+    }
+}
@@ -0,0 +1,254 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.config.RateLimitProperties;
+import com.mockify.backend.dto.response.ratelimit.RateLimitResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeasedRateLimiterTest {
+
+    private static final List<RedisRateLimiter.Window> WINDOWS = List.of(
+            new RedisRateLimiter.Window("rate:ip:1.2.3.4:global", 200, Duration.ofMinutes(1)),
+            new RedisRateLimiter.Window("rate:ip:1.2.3.4:public-mock", 100, Duration.ofMinutes(1)));
+
+    @Mock
+    private RedisRateLimiter redisRateLimiter;
+
+    private RateLimitProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitCircuitBreaker circuitBreaker;
+    private LeasedRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.getLease().setMaxPermits(10);
+        properties.getLease().setTtl(Duration.ofMinutes(1));
+
+        properties.getFallback().setFailureThreshold(2);
+
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = new RateLimitCircuitBreaker(properties, meterRegistry);
+        circuitBreaker.init();
+        InMemoryRateLimiter fallbackLimiter = new InMemoryRateLimiter(properties);
+        fallbackLimiter.init();
+
+        limiter = new LeasedRateLimiter(redisRateLimiter, properties, circuitBreaker, fallbackLimiter, meterRegistry);
+        limiter.init();
+    }
+
+    @Test
+    void check_spendsLeaseLocallyBeforeCallingRedisAgain() {
+        when(redisRateLimiter.acquire(WINDOWS, 10)).thenReturn(lease(10, 90, 90));
+
+        for (int i = 0; i < 10; i++) {
+            RateLimitResult result = limiter.check(WINDOWS);
+            assertThat(result.allowed()).isTrue();
+            // Leased permits still held locally count as remaining
+            assertThat(result.remaining()).isEqualTo(90 + 9 - i);
+        }
+
+        verify(redisRateLimiter, times(1)).acquire(any(), anyInt());
+        assertThat(decisions("local")).isEqualTo(9);
+        assertThat(decisions("redis")).isEqualTo(1);
+    }
+
+    @Test
+    void check_firstLeaseIsSizedFromTheSmallestLimit() {
+        List<RedisRateLimiter.Window> strict = List.of(
+                new RedisRateLimiter.Window("rate:ip:1.2.3.4:global", 200, Duration.ofMinutes(1)),
+                new RedisRateLimiter.Window("rate:ip:1.2.3.4:auth", 5, Duration.ofMinutes(1)));
+        when(redisRateLimiter.acquire(strict, 1)).thenReturn(lease(1, 4, 4));
+
+        limiter.check(strict);
+        limiter.check(strict);
+
+        // A limit of 5 never leases ahead: every request goes to Redis
+        verify(redisRateLimiter, times(2)).acquire(strict, 1);
+    }
+
+    @Test
+    void check_nearTheLimitLeasesOnePermitPerRequest() {
+        when(redisRateLimiter.acquire(WINDOWS, 10)).thenReturn(lease(10, 6, 6));
+        when(redisRateLimiter.acquire(WINDOWS, 1)).thenReturn(lease(1, 5, 5));
+
+        for (int i = 0; i < 12; i++) {
+            limiter.check(WINDOWS);
+        }
+
+        verify(redisRateLimiter, times(1)).acquire(WINDOWS, 10);
+        verify(redisRateLimiter, times(2)).acquire(WINDOWS, 1);
+    }
+
+    @Test
+    void check_denialIsReturnedAndNextLeaseIsSinglePermit() {
+        RateLimitResult denied = new RateLimitResult(false, 100, 0, 1_700_000_000L);
+        when(redisRateLimiter.acquire(WINDOWS, 10))
+                .thenReturn(new RedisRateLimiter.Lease(denied, 0, 0, "m"));
+        when(redisRateLimiter.acquire(WINDOWS, 1))
+                .thenReturn(new RedisRateLimiter.Lease(denied, 0, 0, "m"));
+
+        assertThat(limiter.check(WINDOWS)).isEqualTo(denied);
+        assertThat(limiter.check(WINDOWS)).isEqualTo(denied);
+
+        verify(redisRateLimiter).acquire(WINDOWS, 1);
+    }
+
+    @Test
+    void check_disabledGoesToRedisEveryTime() {
+        properties.getLease().setEnabled(false);
+        RateLimitResult allowed = new RateLimitResult(true, 100, 99, 1_700_000_000L);
+        when(redisRateLimiter.check(WINDOWS)).thenReturn(allowed);
+
+        limiter.check(WINDOWS);
+        limiter.check(WINDOWS);
+
+        verify(redisRateLimiter, times(2)).check(WINDOWS);
+        verify(redisRateLimiter, never()).acquire(any(), anyInt());
+    }
+
+    @Test
+    void reconcile_returnsUnusedPermitsOfExpiredLeases() throws InterruptedException {
+        properties.getLease().setTtl(Duration.ofMillis(200));
+        RedisRateLimiter.Lease lease = lease(10, 90, 90);
+        when(redisRateLimiter.acquire(WINDOWS, 10)).thenReturn(lease);
+
+        limiter.check(WINDOWS);
+        limiter.check(WINDOWS);
+        limiter.check(WINDOWS);
+
+        limiter.reconcile();
+        verify(redisRateLimiter, never()).release(any(), any(), anyInt());
+
+        Thread.sleep(250);
+        limiter.reconcile();
+
+        verify(redisRateLimiter).release(WINDOWS, lease, 7);
+    }
+
+    @Test
+    void check_expiredLeaseIsReplacedAndItsRemainderReleased() throws InterruptedException {
+        properties.getLease().setTtl(Duration.ofMillis(200));
+        RedisRateLimiter.Lease first = lease(10, 90, 90);
+        RedisRateLimiter.Lease second = lease(10, 80, 80);
+        when(redisRateLimiter.acquire(eq(WINDOWS), anyInt())).thenReturn(first, second);
+
+        limiter.check(WINDOWS);
+        Thread.sleep(250);
+        limiter.check(WINDOWS);
+
+        // Handed back asynchronously, not on the request thread
+        verify(redisRateLimiter, never()).release(any(), any(), anyInt());
+
+        limiter.reconcile();
+        verify(redisRateLimiter).release(WINDOWS, first, 9);
+    }
+
+    @Test
+    void reconcile_releaseFailureIsNotRethrown() throws InterruptedException {
+        properties.getLease().setTtl(Duration.ofMillis(200));
+        when(redisRateLimiter.acquire(WINDOWS, 10)).thenReturn(lease(10, 90, 90));
+        doThrow(new IllegalStateException("Redis down")).when(redisRateLimiter).release(any(), any(), anyInt());
+
+        limiter.check(WINDOWS);
+        Thread.sleep(250);
+        limiter.reconcile();
+
+        verify(redisRateLimiter).release(any(), any(), eq(9));
+    }
+
+    // -------------------------------------------------------------------------
+    // Redis outage
+    // -------------------------------------------------------------------------
+
+    @Test
+    void check_redisFailureIsAnsweredInMemory() {
+        when(redisRateLimiter.acquire(WINDOWS, 10)).thenThrow(new RedisConnectionFailureException("down"));
+
+        RateLimitResult result = limiter.check(WINDOWS);
+
+        assertThat(result.allowed()).isTrue();
+        assertThat(result.limit()).isEqualTo(100);
+        assertThat(result.remaining()).isEqualTo(99);
+        assertThat(decisions("memory")).isEqualTo(1);
+        assertThat(circuitBreaker.isDegraded()).isFalse();
+    }
+
+    @Test
+    void check_openCircuitSkipsRedisAndStillEnforcesLimits() {
+        List<RedisRateLimiter.Window> strict = List.of(
+                new RedisRateLimiter.Window("rate:ip:1.2.3.4:auth", 3, Duration.ofMinutes(1)));
+        when(redisRateLimiter.acquire(strict, 1)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(limiter.check(strict).allowed()).isTrue();
+        assertThat(limiter.check(strict).allowed()).isTrue();
+        assertThat(circuitBreaker.isDegraded()).isTrue();
+
+        assertThat(limiter.check(strict).allowed()).isTrue();
+        assertThat(limiter.check(strict).allowed()).isFalse();
+
+        verify(redisRateLimiter, times(2)).acquire(strict, 1);
+    }
+
+    @Test
+    void check_switchesBackToRedisOnceItRecovers() throws InterruptedException {
+        properties.getFallback().setOpenDuration(Duration.ofMillis(100));
+        when(redisRateLimiter.acquire(WINDOWS, 10))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(lease(10, 90, 90));
+
+        limiter.check(WINDOWS);
+        limiter.check(WINDOWS);
+        assertThat(circuitBreaker.isDegraded()).isTrue();
+
+        Thread.sleep(150);
+        limiter.check(WINDOWS);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(RateLimitCircuitBreaker.State.CLOSED);
+        assertThat(decisions("redis")).isEqualTo(1);
+    }
+
+    @Test
+    void reconcile_whileDegradedDropsReleases() throws InterruptedException {
+        properties.getLease().setTtl(Duration.ofMillis(200));
+        List<RedisRateLimiter.Window> other = List.of(
+                new RedisRateLimiter.Window("rate:ip:5.6.7.8:global", 200, Duration.ofMinutes(1)));
+        when(redisRateLimiter.acquire(WINDOWS, 10)).thenReturn(lease(10, 90, 90));
+        when(redisRateLimiter.acquire(other, 10)).thenThrow(new RedisConnectionFailureException("down"));
+
+        limiter.check(WINDOWS);
+        limiter.check(other);
+        limiter.check(other);
+        assertThat(circuitBreaker.isDegraded()).isTrue();
+
+        Thread.sleep(250);
+        limiter.reconcile();
+
+        verify(redisRateLimiter, never()).release(any(), any(), anyInt());
+    }
+
+    private static RedisRateLimiter.Lease lease(int granted, long remaining, long headroom) {
+        return new RedisRateLimiter.Lease(
+                new RateLimitResult(true, 100, remaining, 1_700_000_000L), granted, headroom, "m");
+    }
+
+    private double decisions(String source) {
+        return meterRegistry.get("rate_limit.decisions").tag("source", source).counter().count();
+    }
+}
@@ -0,0 +1,125 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.model.*;
+import com.mockify.backend.repository.*;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The batch writer and JPA must store a record's timestamps identically: the
+ * cleanup job and every query compare them against each other. Runs against
+ * the local Postgres from {@code compose.yml}; everything rolls back.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MockRecordBatchWriterTest {
+
+    @Autowired MockRecordBatchWriter batchWriter;
+    @Autowired MockRecordRepository mockRecordRepository;
+    @Autowired MockSchemaRepository mockSchemaRepository;
+    @Autowired ProjectRepository projectRepository;
+    @Autowired OrganizationRepository organizationRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManager entityManager;
+
+    private TimeZone defaultZone;
+    private MockSchema schema;
+
+    @BeforeEach
+    void setUp() {
+        // The application pins the JVM to Asia/Kolkata; any other zone shows
+        // a conversion applied on one path only
+        defaultZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+
+        User owner = new User();
+        owner.setName("Owner");
+        owner.setEmail("owner-" + UUID.randomUUID() + "@test.com");
+        owner.setPassword("hashed");
+        owner.setProviderName("local");
+        owner.setEmailVerified(true);
+        owner = userRepository.save(owner);
+
+        Organization org = new Organization();
+        org.setName("Org");
+        org.setSlug("org-" + UUID.randomUUID());
+        org.setOwner(owner);
+        org = organizationRepository.save(org);
+
+        Project project = new Project();
+        project.setName("Project");
+        project.setSlug("project-" + UUID.randomUUID());
+        project.setOrganization(org);
+        project = projectRepository.save(project);
+
+        schema = new MockSchema();
+        schema.setName("Schema");
+        schema.setSlug("schema-" + UUID.randomUUID());
+        schema.setSchemaJson(Map.of("name", "string"));
+        schema.setProject(project);
+        schema = mockSchemaRepository.save(schema);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TimeZone.setDefault(defaultZone);
+    }
+
+    @Test
+    void batchWriterAndJpaStoreTheSameTimestamps() {
+        LocalDateTime createdAt = LocalDate.now().atTime(12, 0, 0);
+        LocalDateTime expiresAt = createdAt.plusDays(1);
+
+        MockRecord viaJpa = mockRecordRepository.saveAndFlush(record(null, createdAt, expiresAt));
+        MockRecord viaBatch = record(UUID.randomUUID(), createdAt, expiresAt);
+        batchWriter.insertAll(List.of(viaBatch));
+        entityManager.clear();
+
+        // As stored
+        for (UUID id : List.of(viaJpa.getId(), viaBatch.getId())) {
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "SELECT created_at::text AS created_at, expires_at::text AS expires_at, updated_at::text AS updated_at "
+                            + "FROM mock_records WHERE id = ?", id);
+            assertThat(row).containsEntry("created_at", "%s 12:00:00".formatted(createdAt.toLocalDate()))
+                    .containsEntry("expires_at", "%s 12:00:00".formatted(expiresAt.toLocalDate()))
+                    .containsEntry("updated_at", "%s 12:00:00".formatted(createdAt.toLocalDate()));
+        }
+
+        // As read back through JPA
+        for (UUID id : List.of(viaJpa.getId(), viaBatch.getId())) {
+            MockRecord read = mockRecordRepository.findById(id).orElseThrow();
+            assertThat(read.getCreatedAt()).isEqualTo(createdAt);
+            assertThat(read.getExpiresAt()).isEqualTo(expiresAt);
+            assertThat(read.getUpdatedAt()).isEqualTo(createdAt);
+        }
+    }
+
+    private MockRecord record(UUID id, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        MockRecord record = new MockRecord();
+        record.setId(id);
+        record.setMockSchema(schema);
+        record.setData(Map.of("name", "row"));
+        record.setCreatedAt(createdAt);
+        record.setUpdatedAt(createdAt);
+        record.setExpiresAt(expiresAt);
+        return record;
+    }
+}
@@ -0,0 +1,118 @@
+package com.mockify.backend.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MockRecordPartitionManagerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private MockRecordPartitionManager partitionManager;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(partitionManager, "lockTimeout", Duration.ofSeconds(5));
+        lenient().doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void ensurePartitions_createsOnlyMissingDays() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of("mock_records_default", "mock_records_p20261018"));
+
+        int created = partitionManager.ensurePartitions(LocalDate.of(2026, 10, 18), 2);
+
+        assertThat(created).isEqualTo(2);
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        verify(jdbcTemplate, times(2)).execute("SET LOCAL lock_timeout = '5000ms'");
+        verify(jdbcTemplate).execute(
+                "CREATE TABLE IF NOT EXISTS mock_records_p20261019 PARTITION OF mock_records "
+                        + "FOR VALUES FROM ('2026-10-19') TO ('2026-10-20')");
+        verify(jdbcTemplate).execute(
+                "CREATE TABLE IF NOT EXISTS mock_records_p20261020 PARTITION OF mock_records "
+                        + "FOR VALUES FROM ('2026-10-20') TO ('2026-10-21')");
+        verify(jdbcTemplate, never()).execute(contains("mock_records_p20261018"));
+    }
+
+    @Test
+    void ensurePartitions_conflictWithDefaultPartition_skipsThatDay() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of());
+        lenient().doThrow(new DataIntegrityViolationException("updated partition constraint for default partition would be violated"))
+                .when(jdbcTemplate).execute(contains("mock_records_p20261018"));
+
+        int created = partitionManager.ensurePartitions(LocalDate.of(2026, 10, 18), 1);
+
+        assertThat(created).isEqualTo(1);
+        verify(jdbcTemplate).execute(contains("mock_records_p20261019"));
+    }
+
+    @Test
+    void dropExpiredPartitions_dropsOnlyFullyExpiredDays() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+                "mock_records_default",
+                "mock_records_p20261016",
+                "mock_records_p20261017",
+                "mock_records_p20261018"));
+
+        int dropped = partitionManager.dropExpiredPartitions(LocalDateTime.of(2026, 10, 18, 0, 0));
+
+        assertThat(dropped).isEqualTo(2);
+        verify(jdbcTemplate, times(2)).execute("SET LOCAL lock_timeout = '5000ms'");
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS mock_records_p20261016");
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS mock_records_p20261017");
+        verify(jdbcTemplate, never()).execute(contains("DETACH"));
+        verify(jdbcTemplate, never()).execute(contains("mock_records_p20261018"));
+        verify(jdbcTemplate, never()).execute(contains("mock_records_default"));
+    }
+
+    @Test
+    void dropExpiredPartitions_lockTimeout_skipsThatPartition() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+                "mock_records_p20261016",
+                "mock_records_p20261017"));
+        lenient().doThrow(new CannotAcquireLockException("canceling statement due to lock timeout"))
+                .when(jdbcTemplate).execute("DROP TABLE IF EXISTS mock_records_p20261016");
+
+        int dropped = partitionManager.dropExpiredPartitions(LocalDateTime.of(2026, 10, 18, 0, 0));
+
+        assertThat(dropped).isEqualTo(1);
+        verify(jdbcTemplate).execute("DROP TABLE IF EXISTS mock_records_p20261017");
+    }
+
+    @Test
+    void partitionName_usesBasicIsoDate() {
+        assertThat(MockRecordPartitionManager.partitionName(LocalDate.of(2026, 1, 5)))
+                .isEqualTo("mock_records_p20260105");
+    }
+}
@@ -0,0 +1,100 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitCircuitBreakerTest {
+
+    private static final RuntimeException FAILURE = new IllegalStateException("Redis down");
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.getFallback().setFailureThreshold(3);
+        properties.getFallback().setOpenDuration(Duration.ofMillis(100));
+
+        meterRegistry = new SimpleMeterRegistry();
+        breaker = new RateLimitCircuitBreaker(properties, meterRegistry);
+        breaker.init();
+    }
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        breaker.recordFailure(FAILURE);
+        breaker.recordFailure(FAILURE);
+        assertThat(breaker.allowRequest()).isTrue();
+
+        breaker.recordFailure(FAILURE);
+
+        assertThat(breaker.getState()).isEqualTo(RateLimitCircuitBreaker.State.OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+        assertThat(degradedGauge()).isEqualTo(1.0);
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        breaker.recordFailure(FAILURE);
+        breaker.recordFailure(FAILURE);
+        breaker.recordSuccess();
+        breaker.recordFailure(FAILURE);
+        breaker.recordFailure(FAILURE);
+
+        assertThat(breaker.getState()).isEqualTo(RateLimitCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void letsOneProbeThroughAfterOpenDuration() throws InterruptedException {
+        tripOpen();
+
+        Thread.sleep(150);
+
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(RateLimitCircuitBreaker.State.HALF_OPEN);
+        // Everyone else stays in memory while the probe is in flight
+        assertThat(breaker.allowRequest()).isFalse();
+    }
+
+    @Test
+    void successfulProbeCloses() throws InterruptedException {
+        tripOpen();
+        Thread.sleep(150);
+        breaker.allowRequest();
+
+        breaker.recordSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(RateLimitCircuitBreaker.State.CLOSED);
+        assertThat(breaker.allowRequest()).isTrue();
+        assertThat(degradedGauge()).isEqualTo(0.0);
+    }
+
+    @Test
+    void failedProbeReopensForAnotherPeriod() throws InterruptedException {
+        tripOpen();
+        Thread.sleep(150);
+        breaker.allowRequest();
+
+        breaker.recordFailure(FAILURE);
+
+        assertThat(breaker.getState()).isEqualTo(RateLimitCircuitBreaker.State.OPEN);
+        assertThat(breaker.allowRequest()).isFalse();
+    }
+
+    private void tripOpen() {
+        for (int i = 0; i < 3; i++) {
+            breaker.recordFailure(FAILURE);
+        }
+    }
+
+    private double degradedGauge() {
+        return meterRegistry.get("rate_limit.degraded").gauge().value();
+    }
+}
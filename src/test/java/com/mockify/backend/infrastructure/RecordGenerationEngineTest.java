@@ -0,0 +1,104 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.service.MockAutoGenerateService.GenerationPlan;
+import com.mockify.backend.service.impl.MockAutoGenerateServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecordGenerationEngineTest {
+
+    private final List<RecordGenerationEngine> engines = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        engines.forEach(RecordGenerationEngine::shutdown);
+    }
+
+    @Test
+    void seededDatasetDoesNotDependOnParallelism() {
+        GenerationPlan plan = plan();
+        int count = RecordGenerationEngine.CHUNK_SIZE * 7 + 13;
+
+        List<Map<String, Object>> sequential = generate(engine(1), plan, count, 42L);
+        List<Map<String, Object>> parallel = generate(engine(8), plan, count, 42L);
+
+        assertThat(sequential).hasSize(count);
+        assertThat(parallel).isEqualTo(sequential);
+        assertThat(generate(engine(8), plan, count, 43L)).isNotEqualTo(sequential);
+    }
+
+    @Test
+    void chunksArriveInOrderAndFullSized() {
+        int count = RecordGenerationEngine.CHUNK_SIZE * 3 + 1;
+        List<Integer> sizes = new ArrayList<>();
+
+        engine(4).generate(plan(), count, 1L, chunk -> sizes.add(chunk.size()));
+
+        int full = RecordGenerationEngine.CHUNK_SIZE;
+        assertThat(sizes).containsExactly(full, full, full, 1);
+    }
+
+    @Test
+    void smallCountRunsOnCallingThread() {
+        Thread caller = Thread.currentThread();
+        List<Thread> workers = new ArrayList<>();
+
+        GenerationPlan plan = () -> {
+            workers.add(Thread.currentThread());
+            return Map.of();
+        };
+        engine(4).generate(plan, 10, null, chunk -> {});
+
+        assertThat(workers).hasSize(10).containsOnly(caller);
+    }
+
+    @Test
+    void generatorFailureSurfacesToCaller() {
+        GenerationPlan plan = () -> {
+            throw new IllegalArgumentException("boom");
+        };
+
+        assertThatThrownBy(() -> engine(2).generate(plan, RecordGenerationEngine.CHUNK_SIZE * 4, null, chunk -> {}))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("boom");
+    }
+
+    @Test
+    void chunkSeedsAreDistinctAndNullWithoutSeed() {
+        assertThat(RecordGenerationEngine.chunkSeed(null, 3)).isNull();
+        assertThat(RecordGenerationEngine.chunkSeed(5L, 0)).isNotEqualTo(RecordGenerationEngine.chunkSeed(5L, 1));
+        assertThat(RecordGenerationEngine.chunkSeed(5L, 1)).isNotEqualTo(RecordGenerationEngine.chunkSeed(6L, 0));
+    }
+
+    private RecordGenerationEngine engine(int parallelism) {
+        RecordGenerationEngine engine = new RecordGenerationEngine();
+        ReflectionTestUtils.setField(engine, "parallelism", parallelism);
+        engine.init();
+        engines.add(engine);
+        return engine;
+    }
+
+    private static List<Map<String, Object>> generate(RecordGenerationEngine engine, GenerationPlan plan, int count, Long seed) {
+        List<Map<String, Object>> records = new ArrayList<>(count);
+        engine.generate(plan, count, seed, records::addAll);
+        return records;
+    }
+
+    private static GenerationPlan plan() {
+        Map<String, Object> schema = new LinkedHashMap<>();
+        schema.put("uuid", "uuid");
+        schema.put("name", "string");
+        schema.put("email", "string");
+        schema.put("age", "number");
+        return new MockAutoGenerateServiceImpl().compile(schema);
+    }
+}
@@ -0,0 +1,268 @@
+package com.mockify.backend.infrastructure;
+
+import com.mockify.backend.common.enums.RateLimitAlgorithm;
+import com.mockify.backend.dto.response.ratelimit.RateLimitResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the rate-limit script against the local Redis from {@code compose.yml}.
+ * The GCRA tests compare its admissions with the exact sliding window.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RedisRateLimiterTest {
+
+    @Autowired
+    private RedisRateLimiter rateLimiter;
+
+    @Autowired
+    private StringRedisTemplate redis;
+
+    private String globalKey;
+    private String groupKey;
+
+    @BeforeEach
+    void setUp() {
+        String id = UUID.randomUUID().toString();
+        globalKey = "rate:test:" + id + ":global";
+        groupKey = "rate:test:" + id + ":group";
+    }
+
+    @AfterEach
+    void tearDown() {
+        redis.delete(List.of(globalKey, groupKey, globalKey + ":gcra", groupKey + ":gcra"));
+    }
+
+    @Test
+    void admitsUpToLimitThenDenies() {
+        for (int i = 0; i < 3; i++) {
+            RateLimitResult result = rateLimiter.check(globalKey, 3, Duration.ofMinutes(1));
+            assertTrue(result.allowed());
+            assertEquals(3, result.limit());
+            assertEquals(2 - i, result.remaining());
+        }
+
+        RateLimitResult denied = rateLimiter.check(globalKey, 3, Duration.ofMinutes(1));
+        assertFalse(denied.allowed());
+        assertEquals(0, denied.remaining());
+        assertTrue(denied.resetEpochSec() * 1000 >= System.currentTimeMillis());
+    }
+
+    @Test
+    void timestampsComeFromTheRedisClock() {
+        rateLimiter.check(globalKey, 3, Duration.ofMinutes(1));
+
+        Long serverMillis = redis.execute((RedisCallback<Long>) connection -> connection.serverCommands().time());
+        Double score = redis.opsForZSet().rangeWithScores(globalKey, 0, 0).iterator().next().getScore();
+
+        assertNotNull(serverMillis);
+        assertTrue(Math.abs(serverMillis - score) < 1_000, "score " + score + " vs Redis TIME " + serverMillis);
+    }
+
+    @Test
+    void returnsGroupResultWhenBothWindowsAdmit() {
+        RateLimitResult result = rateLimiter.check(List.of(
+                new RedisRateLimiter.Window(globalKey, 100, Duration.ofMinutes(1)),
+                new RedisRateLimiter.Window(groupKey, 5, Duration.ofMinutes(1))));
+
+        assertTrue(result.allowed());
+        assertEquals(5, result.limit());
+        assertEquals(4, result.remaining());
+        assertEquals(1L, redis.opsForZSet().zCard(globalKey));
+        assertEquals(1L, redis.opsForZSet().zCard(groupKey));
+    }
+
+    @Test
+    void groupDenialDoesNotConsumeGlobalQuota() {
+        List<RedisRateLimiter.Window> windows = List.of(
+                new RedisRateLimiter.Window(globalKey, 100, Duration.ofMinutes(1)),
+                new RedisRateLimiter.Window(groupKey, 1, Duration.ofMinutes(1)));
+
+        assertTrue(rateLimiter.check(windows).allowed());
+
+        RateLimitResult denied = rateLimiter.check(windows);
+        assertFalse(denied.allowed());
+        assertEquals(1, denied.limit());
+        assertEquals(1L, redis.opsForZSet().zCard(globalKey));
+    }
+
+    @Test
+    void globalDenialShortCircuitsGroup() {
+        List<RedisRateLimiter.Window> windows = List.of(
+                new RedisRateLimiter.Window(globalKey, 1, Duration.ofMinutes(1)),
+                new RedisRateLimiter.Window(groupKey, 100, Duration.ofMinutes(1)));
+
+        assertTrue(rateLimiter.check(windows).allowed());
+
+        RateLimitResult denied = rateLimiter.check(windows);
+        assertFalse(denied.allowed());
+        assertEquals(1, denied.limit());
+        assertEquals(1L, redis.opsForZSet().zCard(groupKey));
+    }
+
+    @Test
+    void windowSlidesPastOldRequests() throws InterruptedException {
+        assertTrue(rateLimiter.check(globalKey, 1, Duration.ofMillis(200)).allowed());
+        assertFalse(rateLimiter.check(globalKey, 1, Duration.ofMillis(200)).allowed());
+
+        Thread.sleep(250);
+
+        assertTrue(rateLimiter.check(globalKey, 1, Duration.ofMillis(200)).allowed());
+    }
+
+    // -------------------------------------------------------------------------
+    // GCRA vs exact sliding window
+    // -------------------------------------------------------------------------
+
+    @Test
+    void gcra_burstAdmitsExactlyLimitLikeSlidingWindow() {
+        int limit = 20;
+        int admittedExact = 0;
+        int admittedGcra = 0;
+
+        for (int i = 0; i < limit * 2; i++) {
+            if (check(globalKey, limit, Duration.ofMinutes(1), RateLimitAlgorithm.SLIDING_WINDOW).allowed()) {
+                admittedExact++;
+            }
+            if (check(groupKey, limit, Duration.ofMinutes(1), RateLimitAlgorithm.GCRA).allowed()) {
+                admittedGcra++;
+            }
+        }
+
+        assertEquals(limit, admittedExact);
+        assertEquals(limit, admittedGcra);
+    }
+
+    @Test
+    void gcra_remainingCountsDownLikeSlidingWindow() {
+        for (int i = 0; i < 5; i++) {
+            RateLimitResult exact = check(globalKey, 5, Duration.ofMinutes(1), RateLimitAlgorithm.SLIDING_WINDOW);
+            RateLimitResult gcra = check(groupKey, 5, Duration.ofMinutes(1), RateLimitAlgorithm.GCRA);
+
+            assertEquals(exact.remaining(), gcra.remaining());
+        }
+    }
+
+    @Test
+    void gcra_steadyLoadAdmitsCloseToExactWindow() throws InterruptedException {
+        int limit = 10;
+        Duration window = Duration.ofSeconds(1);
+        int admittedExact = 0;
+        int admittedGcra = 0;
+
+        // Offer 4x the limit for 2.5 windows
+        for (int i = 0; i < 100; i++) {
+            if (check(globalKey, limit, window, RateLimitAlgorithm.SLIDING_WINDOW).allowed()) {
+                admittedExact++;
+            }
+            if (check(groupKey, limit, window, RateLimitAlgorithm.GCRA).allowed()) {
+                admittedGcra++;
+            }
+            Thread.sleep(25);
+        }
+
+        // GCRA spreads admissions over the window instead of in bursts at each
+        // window edge, so totals differ slightly; both stay near limit per window
+        assertTrue(admittedExact >= 20 && admittedExact <= 40, "exact admitted " + admittedExact);
+        assertTrue(Math.abs(admittedGcra - admittedExact) <= Math.max(3, admittedExact / 4),
+                "gcra admitted " + admittedGcra + " vs exact " + admittedExact);
+    }
+
+    @Test
+    void gcra_keepsOneKeyPerClientRegardlessOfVolume() {
+        for (int i = 0; i < 50; i++) {
+            check(globalKey, 100, Duration.ofMinutes(1), RateLimitAlgorithm.SLIDING_WINDOW);
+            check(groupKey, 100, Duration.ofMinutes(1), RateLimitAlgorithm.GCRA);
+        }
+
+        assertEquals(50L, redis.opsForZSet().zCard(globalKey));
+        assertEquals(DataType.STRING, redis.type(groupKey + ":gcra"));
+        assertFalse(redis.hasKey(groupKey));
+    }
+
+    @Test
+    void gcra_mixedWithSlidingWindowIsAllOrNothing() {
+        List<RedisRateLimiter.Window> windows = List.of(
+                new RedisRateLimiter.Window(globalKey, 100, Duration.ofMinutes(1), RateLimitAlgorithm.GCRA),
+                new RedisRateLimiter.Window(groupKey, 1, Duration.ofMinutes(1), RateLimitAlgorithm.SLIDING_WINDOW));
+
+        assertTrue(rateLimiter.check(windows).allowed());
+        String tatAfterFirst = redis.opsForValue().get(globalKey + ":gcra");
+
+        assertFalse(rateLimiter.check(windows).allowed());
+        assertEquals(tatAfterFirst, redis.opsForValue().get(globalKey + ":gcra"));
+    }
+
+    // -------------------------------------------------------------------------
+    // Leases
+    // -------------------------------------------------------------------------
+
+    @Test
+    void acquire_grantsWhatEveryWindowCanAdmit() {
+        List<RedisRateLimiter.Window> windows = List.of(
+                new RedisRateLimiter.Window(globalKey, 100, Duration.ofMinutes(1), RateLimitAlgorithm.GCRA),
+                new RedisRateLimiter.Window(groupKey, 6, Duration.ofMinutes(1)));
+
+        RedisRateLimiter.Lease lease = rateLimiter.acquire(windows, 10);
+
+        assertEquals(6, lease.granted());
+        assertTrue(lease.result().allowed());
+        assertEquals(0, lease.result().remaining());
+        assertEquals(0, lease.headroom());
+        assertEquals(6L, redis.opsForZSet().zCard(groupKey));
+
+        assertFalse(rateLimiter.acquire(windows, 1).result().allowed());
+
+        // The GCRA window was charged for the same six permits
+        RateLimitResult global = check(globalKey, 100, Duration.ofMinutes(1), RateLimitAlgorithm.GCRA);
+        assertEquals(93, global.remaining());
+    }
+
+    @Test
+    void acquire_headroomIsTheTightestWindow() {
+        RedisRateLimiter.Lease lease = rateLimiter.acquire(List.of(
+                new RedisRateLimiter.Window(globalKey, 20, Duration.ofMinutes(1), RateLimitAlgorithm.GCRA),
+                new RedisRateLimiter.Window(groupKey, 100, Duration.ofMinutes(1))), 5);
+
+        assertEquals(5, lease.granted());
+        assertEquals(95, lease.result().remaining());
+        assertEquals(15, lease.headroom());
+    }
+
+    @Test
+    void release_returnsUnusedPermitsToEveryWindow() {
+        List<RedisRateLimiter.Window> windows = List.of(
+                new RedisRateLimiter.Window(globalKey, 10, Duration.ofMinutes(1), RateLimitAlgorithm.GCRA),
+                new RedisRateLimiter.Window(groupKey, 10, Duration.ofMinutes(1)));
+
+        RedisRateLimiter.Lease lease = rateLimiter.acquire(windows, 10);
+        assertEquals(10, lease.granted());
+        assertFalse(rateLimiter.check(windows).allowed());
+
+        rateLimiter.release(windows, lease, 4);
+
+        assertEquals(6L, redis.opsForZSet().zCard(groupKey));
+        for (int i = 0; i < 4; i++) {
+            assertTrue(rateLimiter.check(windows).allowed());
+        }
+        assertFalse(rateLimiter.check(windows).allowed());
+    }
+
+    private RateLimitResult check(String key, int limit, Duration window, RateLimitAlgorithm algorithm) {
+        return rateLimiter.check(List.of(new RedisRateLimiter.Window(key, limit, window, algorithm)));
+    }
+}
@@ -0,0 +1,140 @@
+package com.mockify.backend.infrastructure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ScheduledJobRunnerTest {
+
+    private RedisTemplate<String, String> redis;
+    private ValueOperations<String, String> values;
+    private HashOperations<String, Object, Object> hashes;
+    private SimpleMeterRegistry meterRegistry;
+    private ScheduledJobRunner runner;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redis = mock(RedisTemplate.class);
+        values = mock(ValueOperations.class);
+        hashes = mock(HashOperations.class);
+        when(redis.opsForValue()).thenReturn(values);
+        when(redis.<Object, Object>opsForHash()).thenReturn(hashes);
+
+        meterRegistry = new SimpleMeterRegistry();
+        runner = new ScheduledJobRunner(redis, meterRegistry);
+        ReflectionTestUtils.setField(runner, "lockEnabled", true);
+        ReflectionTestUtils.setField(runner, "lockAtMostFor", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(runner, "lockAtLeastFor", Duration.ofSeconds(30));
+    }
+
+    @Test
+    void runsWhenLeaseIsFreeAndHoldsItForTheMinimum() {
+        when(values.setIfAbsent(eq("scheduler:lock:cleanup"), anyString(), eq(Duration.ofMinutes(10))))
+                .thenReturn(true);
+        AtomicInteger runs = new AtomicInteger();
+
+        boolean ran = runner.runExclusively("cleanup", runs::incrementAndGet);
+
+        assertThat(ran).isTrue();
+        assertThat(runs).hasValue(1);
+
+        // Released with the rest of lock-at-least-for still to hold, and the run recorded
+        verify(redis).execute(any(RedisScript.class),
+                eq(List.of("scheduler:lock:cleanup", "scheduler:last-run:cleanup")),
+                anyString(), argThat(hold -> Long.parseLong((String) hold) > 29_000),
+                anyString(), anyString(), eq("completed"));
+
+        assertThat(meterRegistry.timer("scheduler.job.duration", "job", "cleanup", "outcome", "completed").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("scheduler.job.last_run").tag("job", "cleanup").gauge().value())
+                .isGreaterThan(0);
+        assertThat(meterRegistry.get("scheduler.job.last_duration").tag("job", "cleanup").gauge().value())
+                .isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    void skipsWhileAnotherNodeHoldsTheLease() {
+        when(values.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        AtomicInteger runs = new AtomicInteger();
+
+        boolean ran = runner.runExclusively("cleanup", runs::incrementAndGet);
+
+        assertThat(ran).isFalse();
+        assertThat(runs).hasValue(0);
+        assertThat(meterRegistry.counter("scheduler.job.skipped", "job", "cleanup").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("scheduler.job.last_run").tag("job", "cleanup").gauge().value()).isNaN();
+        verify(redis, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void gaugesReportTheLastRunOfAnyNode() {
+        when(values.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+        when(hashes.multiGet(eq("scheduler:last-run:cleanup"), anyCollection()))
+                .thenReturn(List.of("1760745600000", "2500"));
+
+        runner.runExclusively("cleanup", () -> { });
+
+        for (int scrape = 0; scrape < 3; scrape++) {
+            assertThat(meterRegistry.get("scheduler.job.last_run").tag("job", "cleanup").gauge().value())
+                    .isEqualTo(1_760_745_600.0);
+            assertThat(meterRegistry.get("scheduler.job.last_duration").tag("job", "cleanup").gauge().value())
+                    .isEqualTo(2.5);
+        }
+
+        // Read once per tick, not per scrape
+        verify(hashes, times(1)).multiGet(anyString(), anyCollection());
+    }
+
+    @Test
+    void runsLocallyWhenRedisIsUnreachable() {
+        when(values.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        AtomicInteger runs = new AtomicInteger();
+
+        boolean ran = runner.runExclusively("cleanup", runs::incrementAndGet);
+
+        assertThat(ran).isTrue();
+        assertThat(runs).hasValue(1);
+        verify(redis, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void failedJobIsRecordedAndLeaseReleased() {
+        when(values.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        boolean ran = runner.runExclusively("cleanup", () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertThat(ran).isTrue();
+        assertThat(meterRegistry.timer("scheduler.job.duration", "job", "cleanup", "outcome", "failed").count())
+                .isEqualTo(1);
+        verify(redis).execute(any(RedisScript.class), anyList(),
+                anyString(), anyString(), anyString(), anyString(), eq("failed"));
+    }
+
+    @Test
+    void runsWithoutRedisWhenLockingIsDisabled() {
+        ReflectionTestUtils.setField(runner, "lockEnabled", false);
+        AtomicInteger runs = new AtomicInteger();
+
+        assertThat(runner.runExclusively("cleanup", runs::incrementAndGet)).isTrue();
+        assertThat(runs).hasValue(1);
+        verifyNoInteractions(values);
+    }
+}
@@ -0,0 +1,334 @@
+package com.mockify.backend.repository;
+
+import com.mockify.backend.infrastructure.MockRecordBatchWriter;
+import com.mockify.backend.infrastructure.MockRecordPartitionManager;
+import com.mockify.backend.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query-plan regression tests for the hot {@code mock_records} queries.
+ *
+ * <p>Each test calls the repository method itself; the SQL Hibernate (or the
+ * native query) sends, with its bound parameters, is captured at the JDBC layer
+ * and run through {@code EXPLAIN} against the local Postgres from
+ * {@code compose.yml}. The planner runs with its default settings, so the seed
+ * data is shaped like production: the schema under test among a few hundred
+ * others, all in the same daily partition. A {@code Seq Scan} on that partition means
+ * the query cannot use an index for a selective predicate. Empty partitions
+ * may legitimately be scanned and are ignored. Everything rolls back.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MockRecordQueryPlanTest {
+
+    // Rows per schema; the schema under test sits among NOISE_SCHEMAS others
+    private static final int SCHEMA_ROWS = 200;
+    private static final int NOISE_SCHEMAS = 200;
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired MockRecordBatchWriter batchWriter;
+    @Autowired MockRecordPartitionManager partitionManager;
+    @Autowired MockRecordRepository mockRecordRepository;
+    @Autowired DashboardRepository dashboardRepository;
+    @Autowired MockSchemaRepository mockSchemaRepository;
+    @Autowired ProjectRepository projectRepository;
+    @Autowired OrganizationRepository organizationRepository;
+    @Autowired UserRepository userRepository;
+
+    private User owner;
+    private Project project;
+    private MockSchema schema;
+    private LocalDateTime now;
+    private Pattern hotPartitionScan;
+
+    @BeforeEach
+    void setUp() {
+        // Noon, so every seeded expiry falls on today's partition
+        now = LocalDate.now().atTime(12, 0);
+        partitionManager.ensurePartitions(now.toLocalDate(), 0);
+        hotPartitionScan = Pattern.compile("Seq Scan on mock_records_p"
+                + now.toLocalDate().format(DateTimeFormatter.BASIC_ISO_DATE) + "\\b");
+
+        owner = newUser();
+        project = newProject(owner);
+        schema = newSchema(project);
+
+        List<MockRecord> records = new ArrayList<>(SCHEMA_ROWS * (NOISE_SCHEMAS + 1));
+        for (int i = 0; i < SCHEMA_ROWS; i++) {
+            // Half expired a few seconds ago, half expiring within the hour
+            records.add(newRecord(schema, i, now.plusSeconds(i - SCHEMA_ROWS / 2)));
+        }
+
+        // Another owner's schemas, none of their rows expired, all expiring today
+        Project noiseProject = newProject(newUser());
+        for (int n = 0; n < NOISE_SCHEMAS; n++) {
+            MockSchema noise = newSchema(noiseProject);
+            for (int i = 0; i < SCHEMA_ROWS; i++) {
+                records.add(newRecord(noise, i, now.plusHours(1).plusSeconds(n * SCHEMA_ROWS + i)));
+            }
+        }
+        batchWriter.insertAll(records);
+
+        jdbcTemplate.execute("ANALYZE mock_records");
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlCapture.stop();
+    }
+
+    @Test
+    void listing_page_and_count_use_index() {
+        assertNoHotPartitionSeqScan(capture(() -> mockRecordRepository.findByMockSchema_Id(
+                schema.getId(), PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")))), 2);
+    }
+
+    @Test
+    void keyset_slices_use_index() {
+        assertNoHotPartitionSeqScan(capture(() -> mockRecordRepository.findSlice(
+                schema.getId(), null, PageRequest.of(0, 20))), 1);
+        assertNoHotPartitionSeqScan(capture(() -> mockRecordRepository.findSliceAfter(
+                schema.getId(), now, UUID.randomUUID(), PageRequest.of(0, 20))), 1);
+    }
+
+    @Test
+    void expired_cleanup_uses_index() {
+        assertNoHotPartitionSeqScan(capture(() -> mockRecordRepository.deleteExpiredMockRecordsChunk(now, 1_000)), 1);
+    }
+
+    @Test
+    void schema_stats_use_index() {
+        assertNoHotPartitionSeqScan(capture(() -> dashboardRepository.schemaStats(
+                schema.getId(), now, now.plusHours(1))), 1);
+    }
+
+    @Test
+    void project_stats_use_index() {
+        assertNoHotPartitionSeqScan(capture(() -> dashboardRepository.projectStats(project.getId(), now)), 1);
+    }
+
+    @Test
+    void record_health_stats_use_index() {
+        assertNoHotPartitionSeqScan(capture(() -> dashboardRepository.recordHealthStats(
+                owner.getId(), now, now.plusHours(1))), 1);
+    }
+
+    private List<CapturedStatement> capture(Runnable repositoryCall) {
+        SqlCapture.start();
+        try {
+            repositoryCall.run();
+            return SqlCapture.statements();
+        } finally {
+            SqlCapture.stop();
+        }
+    }
+
+    private void assertNoHotPartitionSeqScan(List<CapturedStatement> statements, int expectedStatements) {
+        List<CapturedStatement> recordQueries = statements.stream()
+                .filter(statement -> statement.sql().contains("mock_records"))
+                .toList();
+        assertThat(recordQueries).hasSize(expectedStatements);
+
+        for (CapturedStatement statement : recordQueries) {
+            List<String> plan = jdbcTemplate.query("EXPLAIN " + statement.sql(),
+                    statement::bind, (rs, row) -> rs.getString(1));
+
+            assertThat(plan)
+                    .as("query plan for:%n%s%n%s", statement.sql(), String.join("\n", plan))
+                    .noneMatch(line -> hotPartitionScan.matcher(line).find());
+        }
+    }
+
+    private User newUser() {
+        User user = new User();
+        user.setName("Plan");
+        user.setEmail("plan-" + UUID.randomUUID() + "@test.com");
+        user.setPassword("hashed");
+        user.setProviderName("local");
+        user.setEmailVerified(true);
+        return userRepository.save(user);
+    }
+
+    private Project newProject(User projectOwner) {
+        Organization org = new Organization();
+        org.setName("Plan Org");
+        org.setSlug("plan-org-" + UUID.randomUUID());
+        org.setOwner(projectOwner);
+        org = organizationRepository.save(org);
+
+        Project newProject = new Project();
+        newProject.setName("Plan Project");
+        newProject.setSlug("plan-project-" + UUID.randomUUID());
+        newProject.setOrganization(org);
+        return projectRepository.save(newProject);
+    }
+
+    private MockSchema newSchema(Project schemaProject) {
+        MockSchema newSchema = new MockSchema();
+        newSchema.setName("Plan Schema");
+        newSchema.setSlug("plan-schema-" + UUID.randomUUID());
+        newSchema.setSchemaJson(Map.of("name", "string"));
+        newSchema.setProject(schemaProject);
+        return mockSchemaRepository.saveAndFlush(newSchema);
+    }
+
+    private MockRecord newRecord(MockSchema recordSchema, int i, LocalDateTime expiresAt) {
+        MockRecord record = new MockRecord();
+        record.setId(UUID.randomUUID());
+        record.setMockSchema(recordSchema);
+        record.setData(Map.of("name", "row-" + i));
+        record.setCreatedAt(now.minusSeconds(i));
+        record.setUpdatedAt(now);
+        record.setExpiresAt(expiresAt);
+        return record;
+    }
+
+    /**
+     * A prepared statement as the application sent it: its SQL and the setter
+     * calls that bound its parameters, replayable onto another statement.
+     */
+    record CapturedStatement(String sql, List<Method> setters, List<Object[]> arguments) {
+
+        void bind(PreparedStatement ps) throws SQLException {
+            for (int i = 0; i < setters.size(); i++) {
+                try {
+                    setters.get(i).invoke(ps, arguments.get(i));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause() instanceof SQLException sql ? sql : new IllegalStateException(e.getCause());
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the prepared statements executed on this thread between
+     * {@link #start()} and {@link #stop()}.
+     */
+    static final class SqlCapture {
+
+        private static final ThreadLocal<List<CapturedStatement>> STATEMENTS = new ThreadLocal<>();
+
+        static void start() {
+            STATEMENTS.set(new ArrayList<>());
+        }
+
+        static void stop() {
+            STATEMENTS.remove();
+        }
+
+        static List<CapturedStatement> statements() {
+            return List.copyOf(STATEMENTS.get());
+        }
+
+        static Connection wrap(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(SqlCapture.class.getClassLoader(),
+                    new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                        if (isIdentityMethod(method)) {
+                            return identity(proxy, method, args);
+                        }
+                        Object result = invoke(connection, method, args);
+                        if (method.getName().equals("prepareStatement") && STATEMENTS.get() != null) {
+                            return wrap((PreparedStatement) result, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private static PreparedStatement wrap(PreparedStatement statement, String sql) {
+            List<Method> setters = new ArrayList<>();
+            List<Object[]> arguments = new ArrayList<>();
+            return (PreparedStatement) Proxy.newProxyInstance(SqlCapture.class.getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+                        if (isIdentityMethod(method)) {
+                            return identity(proxy, method, args);
+                        }
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                            setters.add(method);
+                            arguments.add(args.clone());
+                        } else if (name.startsWith("execute") && STATEMENTS.get() != null) {
+                            STATEMENTS.get().add(new CapturedStatement(sql, List.copyOf(setters), List.copyOf(arguments)));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static boolean isIdentityMethod(Method method) {
+            return method.getDeclaringClass() == Object.class
+                    && (method.getName().equals("equals") || method.getName().equals("hashCode"));
+        }
+
+        private static Object identity(Object proxy, Method method, Object[] args) {
+            return method.getName().equals("equals") ? proxy == args[0] : System.identityHashCode(proxy);
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        static BeanPostProcessor sqlCapturingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) {
+                        return bean;
+                    }
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return SqlCapture.wrap(super.getConnection());
+                        }
+
+                        @Override
+                        public Connection getConnection(String username, String password) throws SQLException {
+                            return SqlCapture.wrap(super.getConnection(username, password));
+                        }
+                    };
+                }
+            };
+        }
+    }
+}
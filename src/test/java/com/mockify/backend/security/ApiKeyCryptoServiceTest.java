@@ -273,6 +273,60 @@ class ApiKeyCryptoServiceTest {
         assertNotEquals(secret1, secret2);
     }
 
+    @Test
+    void testGenerateOrgSecret_DifferentGlobalSecrets() {
+        String orgId = "550e8400-e29b-41d4-a716-446655440000";
+
+        String secret1 = cryptoService.generateOrgSecret(orgId, TEST_SECRET);
+        String secret2 = cryptoService.generateOrgSecret(orgId, "another-global-secret");
+
+        assertNotEquals(secret1, secret2);
+    }
+
+    @Test
+    void testGenerateOrgSecret_MatchesDerivationFormula() {
+        // Memoization must not change derived secrets — stored key hashes depend on them
+        String orgId = "550e8400-e29b-41d4-a716-446655440000";
+
+        assertEquals(
+                cryptoService.hashApiKey(orgId + ":api-key", TEST_SECRET),
+                cryptoService.generateOrgSecret(orgId, TEST_SECRET));
+    }
+
+    // -------------------------------
+    // Cached Mac Behaviour
+    // -------------------------------
+
+    @Test
+    void testHashApiKey_KnownVector() {
+        String apiKey = "mk_live_" + "a".repeat(43);
+
+        assertEquals(
+                "bb991815e92e963ebd230d589fc7ddf6c629fa1e3e2cebdd933b5f2bd4b482ae",
+                cryptoService.hashApiKey(apiKey, TEST_SECRET));
+    }
+
+    @Test
+    void testHashApiKey_ConcurrentCallsAgree() {
+        String apiKey = cryptoService.generateApiKey(false);
+        String expected = cryptoService.hashApiKey(apiKey, TEST_SECRET);
+
+        long mismatches = java.util.stream.IntStream.range(0, 2_000).parallel()
+                .mapToObj(i -> cryptoService.hashApiKey(apiKey, TEST_SECRET))
+                .filter(hash -> !hash.equals(expected))
+                .count();
+
+        assertEquals(0, mismatches);
+    }
+
+    @Test
+    void testVerifyApiKey_MalformedStoredHash() {
+        String apiKey = cryptoService.generateApiKey(false);
+
+        assertFalse(cryptoService.verifyApiKey(apiKey, "not-hex", TEST_SECRET));
+        assertFalse(cryptoService.verifyApiKey(apiKey, "abcd", TEST_SECRET));
+    }
+
     // -------------------------------
     // End-to-End Workflow
     // -------------------------------
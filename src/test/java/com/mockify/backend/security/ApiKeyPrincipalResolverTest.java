@@ -0,0 +1,134 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.config.ApiKeyConfig;
+import com.mockify.backend.model.ApiKey;
+import com.mockify.backend.model.ApiKeyPermission;
+import com.mockify.backend.model.Organization;
+import com.mockify.backend.model.User;
+import com.mockify.backend.repository.ApiKeyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApiKeyPrincipalResolverTest {
+
+    private static final String RAW_KEY = "mk_live_abcdefgh12345678";
+    private static final String PREFIX = "mk_live_abcd";
+
+    @Mock
+    private ApiKeyRepository apiKeyRepository;
+
+    @Mock
+    private ApiKeyCryptoService cryptoService;
+
+    private ApiKeyPrincipalResolver resolver;
+
+    private ApiKey apiKey;
+
+    @BeforeEach
+    void setUp() {
+        ApiKeyConfig config = new ApiKeyConfig();
+        config.setSecret("test-secret-that-is-at-least-32-characters");
+
+        resolver = new ApiKeyPrincipalResolver(apiKeyRepository, cryptoService, config, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(resolver, "maxSize", 100L);
+        ReflectionTestUtils.setField(resolver, "ttl", Duration.ofMinutes(1));
+        resolver.initCache();
+
+        User owner = new User();
+        owner.setId(UUID.randomUUID());
+        Organization org = new Organization();
+        org.setId(UUID.randomUUID());
+
+        apiKey = ApiKey.builder()
+                .id(UUID.randomUUID())
+                .keyPrefix(PREFIX)
+                .keyHash("stored-hash")
+                .organization(org)
+                .createdBy(owner)
+                .isActive(true)
+                .rateLimitPerMinute(600)
+                .build();
+        apiKey.addPermission(ApiKeyPermission.builder()
+                .permission(ApiKeyPermission.ApiPermission.READ)
+                .resourceType(ApiKeyPermission.ApiResourceType.RECORD)
+                .build());
+    }
+
+    private void stubVerification() {
+        when(cryptoService.extractKeyPrefix(RAW_KEY)).thenReturn(PREFIX);
+        when(apiKeyRepository.findByKeyPrefixAndActive(eq(PREFIX), any(LocalDateTime.class)))
+                .thenReturn(List.of(apiKey));
+        when(cryptoService.generateOrgSecret(anyString(), anyString())).thenReturn("org-secret");
+        when(cryptoService.verifyApiKey(RAW_KEY, "stored-hash", "org-secret")).thenReturn(true);
+    }
+
+    @Test
+    void repeated_requests_with_same_key_skip_the_database() {
+        stubVerification();
+
+        ApiKeyPrincipal first = resolver.resolve(RAW_KEY).orElseThrow();
+        ApiKeyPrincipal second = resolver.resolve(RAW_KEY).orElseThrow();
+
+        assertSame(first, second);
+        assertEquals(apiKey.getId(), first.apiKeyId());
+        assertEquals(600, first.rateLimitPerMinute());
+        assertEquals(1, first.permissions().size());
+        assertNull(first.permissions().get(0).getApiKey());
+        verify(apiKeyRepository, times(1)).findByKeyPrefixAndActive(eq(PREFIX), any(LocalDateTime.class));
+        verify(cryptoService, times(1)).verifyApiKey(RAW_KEY, "stored-hash", "org-secret");
+    }
+
+    @Test
+    void evict_forces_reverification() {
+        stubVerification();
+
+        resolver.resolve(RAW_KEY);
+        resolver.evict(apiKey.getId());
+        resolver.resolve(RAW_KEY);
+
+        verify(apiKeyRepository, times(2)).findByKeyPrefixAndActive(eq(PREFIX), any(LocalDateTime.class));
+    }
+
+    @Test
+    void failed_verification_is_not_cached() {
+        when(cryptoService.extractKeyPrefix(RAW_KEY)).thenReturn(PREFIX);
+        when(apiKeyRepository.findByKeyPrefixAndActive(eq(PREFIX), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        assertEquals(Optional.empty(), resolver.resolve(RAW_KEY));
+        assertEquals(Optional.empty(), resolver.resolve(RAW_KEY));
+
+        verify(apiKeyRepository, times(2)).findByKeyPrefixAndActive(eq(PREFIX), any(LocalDateTime.class));
+    }
+
+    @Test
+    void cached_principal_is_rejected_once_expired() throws InterruptedException {
+        apiKey.setExpiresAt(LocalDateTime.now().plusNanos(50_000_000));
+        stubVerification();
+
+        assertTrue(resolver.resolve(RAW_KEY).isPresent());
+
+        Thread.sleep(100);
+
+        assertTrue(resolver.resolve(RAW_KEY).isEmpty());
+        verify(apiKeyRepository, times(1)).findByKeyPrefixAndActive(eq(PREFIX), any(LocalDateTime.class));
+    }
+}
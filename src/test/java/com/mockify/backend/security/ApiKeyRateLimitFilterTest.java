@@ -1,6 +1,10 @@
 package com.mockify.backend.security;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mockify.backend.common.enums.RateLimitAlgorithm;
+import com.mockify.backend.dto.response.ratelimit.RateLimitResult;
+import com.mockify.backend.infrastructure.LeasedRateLimiter;
+import com.mockify.backend.infrastructure.RedisRateLimiter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -10,15 +14,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 import java.time.Duration;
 import java.util.Collections;
@@ -34,10 +35,7 @@ import static org.mockito.Mockito.*;
 class ApiKeyRateLimitFilterTest {
 
     @Mock
-    private RedisTemplate<String, Object> redisTemplate;
-
-    @Mock
-    private ValueOperations<String, Object> valueOps;
+    private LeasedRateLimiter rateLimiter;
 
     @Mock
     private ObjectMapper objectMapper;
@@ -58,8 +56,6 @@ class ApiKeyRateLimitFilterTest {
         response = new MockHttpServletResponse();
         chain    = new MockFilterChain();
         SecurityContextHolder.clearContext();
-
-        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOps);
     }
 
     // -------------------------------------------------------------------------
@@ -78,6 +74,14 @@ class ApiKeyRateLimitFilterTest {
         );
     }
 
+    private static RateLimitResult allowed(int limit, int remaining) {
+        return new RateLimitResult(true, limit, remaining, System.currentTimeMillis() / 1000 + 60);
+    }
+
+    private static RateLimitResult denied(int limit) {
+        return new RateLimitResult(false, limit, 0, System.currentTimeMillis() / 1000 + 12);
+    }
+
     private void setAuth(ApiKeyAuthenticationToken token) {
         SecurityContext ctx = SecurityContextHolder.createEmptyContext();
         ctx.setAuthentication(token);
@@ -99,7 +103,7 @@ class ApiKeyRateLimitFilterTest {
             filter.doFilterInternal(request, response, chain);
 
             assertThat(chain.getRequest()).isNotNull();   // chain was called
-            verifyNoInteractions(redisTemplate);
+            verifyNoInteractions(rateLimiter);
         }
 
         @Test
@@ -118,7 +122,7 @@ class ApiKeyRateLimitFilterTest {
             filter.doFilterInternal(request, response, chain);
 
             assertThat(chain.getRequest()).isNotNull();
-            verifyNoInteractions(redisTemplate);
+            verifyNoInteractions(rateLimiter);
         }
     }
 
@@ -131,13 +135,11 @@ class ApiKeyRateLimitFilterTest {
     class UnderLimit {
 
         @Test
-        @DisplayName("allows request when combined window count is below limit")
+        @DisplayName("allows request when the limiter admits it")
         void belowLimit() throws Exception {
             setAuth(tokenWithLimit(LIMIT));
 
-            // current bucket = 2, previous bucket = 1  → total = 3 < 5
-            when(valueOps.increment(anyString())).thenReturn(2L);
-            when(valueOps.get(anyString())).thenReturn(1L);
+            when(rateLimiter.check(anyList())).thenReturn(allowed(LIMIT, 2));
 
             filter.doFilterInternal(request, response, chain);
 
@@ -148,13 +150,11 @@ class ApiKeyRateLimitFilterTest {
         }
 
         @Test
-        @DisplayName("allows request when exactly at limit (boundary)")
+        @DisplayName("allows the last request of the window (boundary)")
         void exactlyAtLimit() throws Exception {
             setAuth(tokenWithLimit(LIMIT));
 
-            // current = 3, previous = 2  → total = 5 = limit (still allowed)
-            when(valueOps.increment(anyString())).thenReturn(3L);
-            when(valueOps.get(anyString())).thenReturn(2L);
+            when(rateLimiter.check(anyList())).thenReturn(allowed(LIMIT, 0));
 
             filter.doFilterInternal(request, response, chain);
 
@@ -168,8 +168,7 @@ class ApiKeyRateLimitFilterTest {
         void setsHeaders() throws Exception {
             setAuth(tokenWithLimit(10));
 
-            when(valueOps.increment(anyString())).thenReturn(1L);
-            when(valueOps.get(anyString())).thenReturn(0L);
+            when(rateLimiter.check(anyList())).thenReturn(allowed(10, 9));
 
             filter.doFilterInternal(request, response, chain);
 
@@ -194,13 +193,11 @@ class ApiKeyRateLimitFilterTest {
         }
 
         @Test
-        @DisplayName("returns 429 when combined window count exceeds limit")
+        @DisplayName("returns 429 when the limiter denies the request")
         void exceeds() throws Exception {
             setAuth(tokenWithLimit(LIMIT));
 
-            // current = 4, previous = 3  → total = 7 > 5
-            when(valueOps.increment(anyString())).thenReturn(4L);
-            when(valueOps.get(anyString())).thenReturn(3L);
+            when(rateLimiter.check(anyList())).thenReturn(denied(LIMIT));
 
             filter.doFilterInternal(request, response, chain);
 
@@ -211,16 +208,17 @@ class ApiKeyRateLimitFilterTest {
         }
 
         @Test
-        @DisplayName("does not forward request to controller on 429")
-        void chainNotCalled() throws Exception {
+        @DisplayName("Retry-After is seconds until reset, at least 1")
+        void retryAfterIsRelative() throws Exception {
             setAuth(tokenWithLimit(1));
 
-            when(valueOps.increment(anyString())).thenReturn(1L);
-            when(valueOps.get(anyString())).thenReturn(2L); // prev = 2, total = 3 > 1
+            when(rateLimiter.check(anyList())).thenReturn(
+                    new RateLimitResult(false, 1, 0, System.currentTimeMillis() / 1000));
 
             filter.doFilterInternal(request, response, chain);
 
             assertThat(chain.getRequest()).isNull();
+            assertThat(response.getHeader("Retry-After")).isEqualTo("1");
         }
 
         @Test
@@ -228,8 +226,7 @@ class ApiKeyRateLimitFilterTest {
         void contentType() throws Exception {
             setAuth(tokenWithLimit(1));
 
-            when(valueOps.increment(anyString())).thenReturn(2L);
-            when(valueOps.get(anyString())).thenReturn(0L);
+            when(rateLimiter.check(anyList())).thenReturn(denied(1));
 
             filter.doFilterInternal(request, response, chain);
 
@@ -246,44 +243,28 @@ class ApiKeyRateLimitFilterTest {
     class RedisFailure {
 
         @Test
-        @DisplayName("allows request when Redis throws on increment")
-        void redisIncrementThrows() throws Exception {
+        @DisplayName("allows request when the limiter throws")
+        void limiterThrows() throws Exception {
             setAuth(tokenWithLimit(LIMIT));
 
-            when(valueOps.increment(anyString())).thenThrow(new RuntimeException("Redis down"));
-            // get() is not reached when increment throws, but stub a safe value anyway
-            when(valueOps.get(anyString())).thenReturn(0L);
+            when(rateLimiter.check(anyList())).thenThrow(new RuntimeException("Redis down"));
 
             filter.doFilterInternal(request, response, chain);
 
             // Should fail open — request passes through
             assertThat(chain.getRequest()).isNotNull();
             assertThat(response.getStatus()).isEqualTo(200);
-        }
-
-        @Test
-        @DisplayName("allows request when Redis throws on get (previous window)")
-        void redisGetThrows() throws Exception {
-            setAuth(tokenWithLimit(LIMIT));
-
-            when(valueOps.increment(anyString())).thenReturn(1L);
-            when(valueOps.get(anyString())).thenThrow(new RuntimeException("Redis timeout"));
-
-            filter.doFilterInternal(request, response, chain);
-
-            // Previous-window count defaults to 0 on error; total = 1 < 5
-            assertThat(chain.getRequest()).isNotNull();
-            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader("X-RateLimit-Limit")).isNull();
         }
     }
 
     // -------------------------------------------------------------------------
-    // Redis key structure
+    // Rate-limit window
     // -------------------------------------------------------------------------
 
     @Nested
-    @DisplayName("Redis key structure")
-    class KeyStructure {
+    @DisplayName("Rate-limit window")
+    class WindowStructure {
 
         @Test
         @DisplayName("uses separate Redis keys for different API keys")
@@ -298,9 +279,7 @@ class ApiKeyRateLimitFilterTest {
                     key2, UUID.randomUUID(), UUID.randomUUID(), null, List.of(),
                     Collections.singletonList(new SimpleGrantedAuthority("ROLE_API_KEY")), 10);
 
-            ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-            when(valueOps.increment(anyString())).thenReturn(1L);
-            when(valueOps.get(anyString())).thenReturn(0L);
+            when(rateLimiter.check(anyList())).thenReturn(allowed(10, 9));
 
             // Request 1
             setAuth(token1);
@@ -310,44 +289,37 @@ class ApiKeyRateLimitFilterTest {
             setAuth(token2);
             filter.doFilterInternal(request, new MockHttpServletResponse(), new MockFilterChain());
 
-            verify(valueOps, times(2)).increment(keyCaptor.capture());
-            List<String> capturedKeys = keyCaptor.getAllValues();
+            List<RedisRateLimiter.Window> windows = captureWindows(2);
 
-            assertThat(capturedKeys.get(0)).contains(key1.toString());
-            assertThat(capturedKeys.get(1)).contains(key2.toString());
-            assertThat(capturedKeys.get(0)).isNotEqualTo(capturedKeys.get(1));
+            assertThat(windows.get(0).key()).contains(key1.toString());
+            assertThat(windows.get(1).key()).contains(key2.toString());
+            assertThat(windows.get(0).key()).isNotEqualTo(windows.get(1).key());
         }
 
         @Test
-        @DisplayName("key format is rate_limit:{apiKeyId}:{windowIndex}")
-        void keyFormat() throws Exception {
+        @DisplayName("one GCRA window of the key's per-minute limit, keyed rate_limit:{apiKeyId}")
+        void windowShape() throws Exception {
             setAuth(tokenWithLimit(LIMIT));
 
-            ArgumentCaptor<String> keyCaptor = ArgumentCaptor.forClass(String.class);
-            when(valueOps.increment(keyCaptor.capture())).thenReturn(1L);
-            when(valueOps.get(anyString())).thenReturn(0L);
+            when(rateLimiter.check(anyList())).thenReturn(allowed(LIMIT, 4));
 
             filter.doFilterInternal(request, response, chain);
 
-            String capturedKey = keyCaptor.getValue();
-            assertThat(capturedKey).startsWith("rate_limit:");
-            assertThat(capturedKey).contains(API_KEY_ID.toString());
-            // format: rate_limit:{uuid}:{windowIndex}
-            String[] parts = capturedKey.split(":");
-            assertThat(parts).hasSizeGreaterThanOrEqualTo(3);
+            RedisRateLimiter.Window window = captureWindows(1).get(0);
+            assertThat(window.key()).isEqualTo("rate_limit:" + API_KEY_ID);
+            assertThat(window.limit()).isEqualTo(LIMIT);
+            assertThat(window.window()).isEqualTo(Duration.ofMinutes(1));
+            assertThat(window.algorithm()).isEqualTo(RateLimitAlgorithm.GCRA);
         }
 
-        @Test
-        @DisplayName("sets TTL on Redis key after increment")
-        void setsTtl() throws Exception {
-            setAuth(tokenWithLimit(LIMIT));
-
-            when(valueOps.increment(anyString())).thenReturn(1L);
-            when(valueOps.get(anyString())).thenReturn(0L);
-
-            filter.doFilterInternal(request, response, chain);
-
-            verify(redisTemplate).expire(anyString(), eq(Duration.ofSeconds(120)));
+        @SuppressWarnings("unchecked")
+        private List<RedisRateLimiter.Window> captureWindows(int calls) {
+            ArgumentCaptor<List<RedisRateLimiter.Window>> captor = ArgumentCaptor.forClass(List.class);
+            verify(rateLimiter, times(calls)).check(captor.capture());
+            return captor.getAllValues().stream()
+                    .peek(windows -> assertThat(windows).hasSize(1))
+                    .map(windows -> windows.get(0))
+                    .toList();
         }
     }
-}
\ No newline at end of file
+}
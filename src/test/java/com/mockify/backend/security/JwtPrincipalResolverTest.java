@@ -0,0 +1,77 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.common.enums.UserRole;
+import com.mockify.backend.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtPrincipalResolverTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private JwtPrincipalResolver resolver;
+
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        resolver = new JwtPrincipalResolver(userRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(resolver, "maxSize", 100L);
+        ReflectionTestUtils.setField(resolver, "ttl", Duration.ofMinutes(1));
+        resolver.initCache();
+    }
+
+    @Test
+    void repeated_requests_hit_the_cache() {
+        when(userRepository.findRoleById(userId)).thenReturn(Optional.of(UserRole.USER));
+
+        UserDetails first = resolver.resolve(userId);
+        UserDetails second = resolver.resolve(userId);
+
+        assertSame(first, second);
+        assertEquals(userId.toString(), first.getUsername());
+        assertEquals("ROLE_USER", first.getAuthorities().iterator().next().getAuthority());
+        verify(userRepository, times(1)).findRoleById(userId);
+    }
+
+    @Test
+    void evict_picks_up_role_change() {
+        when(userRepository.findRoleById(userId))
+                .thenReturn(Optional.of(UserRole.USER))
+                .thenReturn(Optional.of(UserRole.ADMIN));
+
+        resolver.resolve(userId);
+        resolver.evict(userId);
+
+        assertTrue(resolver.resolve(userId).getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch("ROLE_ADMIN"::equals));
+    }
+
+    @Test
+    void unknown_user_is_rejected_and_not_cached() {
+        when(userRepository.findRoleById(userId)).thenReturn(Optional.empty());
+
+        assertThrows(UsernameNotFoundException.class, () -> resolver.resolve(userId));
+        assertThrows(UsernameNotFoundException.class, () -> resolver.resolve(userId));
+
+        verify(userRepository, times(2)).findRoleById(userId);
+    }
+}
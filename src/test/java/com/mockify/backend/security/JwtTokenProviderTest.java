@@ -0,0 +1,78 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.common.enums.UserRole;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "af84c6a92b8d5f4e1c7d92a6e6a1c56a4e9f45bba782cd51e2e1f67a9c34b12f";
+
+    private JwtTokenProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        provider = new JwtTokenProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(provider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", 60_000L);
+        ReflectionTestUtils.setField(provider, "refreshTokenExpiration", 120_000L);
+        ReflectionTestUtils.setField(provider, "claimsCacheMaxSize", 100L);
+        provider.init();
+    }
+
+    @Test
+    void parse_isCachedPerToken() {
+        UUID userId = UUID.randomUUID();
+        String token = provider.generateAccessToken(userId, UserRole.ADMIN);
+
+        ParsedJwt first = provider.parse(token);
+        ParsedJwt second = provider.parse(token);
+
+        assertSame(first, second);
+        assertEquals(userId, first.userId());
+        assertEquals("access", first.type());
+        assertEquals(UserRole.ADMIN, provider.getUserRole(token));
+        assertNotNull(provider.getJti(token));
+        assertNotNull(provider.getExpiration(token));
+    }
+
+    @Test
+    void validateToken_checksTypeFromCachedClaims() {
+        String refresh = provider.generateRefreshToken(UUID.randomUUID(), UserRole.USER);
+
+        assertTrue(provider.validateRefreshToken(refresh));
+        assertFalse(provider.validateAccessToken(refresh));
+    }
+
+    @Test
+    void tamperedToken_isRejected() {
+        String token = provider.generateAccessToken(UUID.randomUUID(), UserRole.USER);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        assertThrows(JwtException.class, () -> provider.parse(tampered));
+        assertFalse(provider.validateAccessToken(tampered));
+        assertNull(provider.getUserIdFromToken(tampered));
+    }
+
+    @Test
+    void expiredToken_isNotServedFromCache() throws InterruptedException {
+        ReflectionTestUtils.setField(provider, "accessTokenExpiration", 1_000L);
+        String token = provider.generateAccessToken(UUID.randomUUID(), UserRole.USER);
+
+        assertTrue(provider.validateAccessToken(token));
+
+        Thread.sleep(1_100);
+
+        assertThrows(ExpiredJwtException.class, () -> provider.parse(token));
+        assertFalse(provider.validateAccessToken(token));
+    }
+}
@@ -0,0 +1,64 @@
+package com.mockify.backend.security;
+
+import com.mockify.backend.common.enums.MemberRole;
+import com.mockify.backend.repository.OrganizationMemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberRoleResolverTest {
+
+    @Mock
+    private OrganizationMemberRepository memberRepository;
+
+    private MemberRoleResolver resolver;
+
+    private final UUID orgId = UUID.randomUUID();
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        resolver = new MemberRoleResolver(memberRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(resolver, "maxSize", 100L);
+        ReflectionTestUtils.setField(resolver, "ttl", Duration.ofMinutes(1));
+        resolver.initCache();
+    }
+
+    @Test
+    void repeated_lookups_hit_the_cache() {
+        when(memberRepository.findRoleByOrganizationIdAndUserId(orgId, userId))
+                .thenReturn(Optional.of(MemberRole.DEVELOPER));
+
+        assertEquals(Optional.of(MemberRole.DEVELOPER), resolver.findRole(orgId, userId));
+        assertEquals(Optional.of(MemberRole.DEVELOPER), resolver.findRole(orgId, userId));
+
+        verify(memberRepository, times(1)).findRoleByOrganizationIdAndUserId(orgId, userId);
+    }
+
+    @Test
+    void non_membership_is_cached_until_evicted() {
+        when(memberRepository.findRoleByOrganizationIdAndUserId(orgId, userId))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(MemberRole.VIEWER));
+
+        assertTrue(resolver.findRole(orgId, userId).isEmpty());
+        assertTrue(resolver.findRole(orgId, userId).isEmpty());
+
+        resolver.evict(orgId, userId);
+
+        assertEquals(Optional.of(MemberRole.VIEWER), resolver.findRole(orgId, userId));
+        verify(memberRepository, times(2)).findRoleByOrganizationIdAndUserId(orgId, userId);
+    }
+}
@@ -0,0 +1,167 @@
+package com.mockify.backend.service.impl;
+
+import com.mockify.backend.exception.ResourceNotFoundException;
+import com.mockify.backend.model.Endpoint;
+import com.mockify.backend.model.MockSchema;
+import com.mockify.backend.repository.EndpointRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EndpointServiceImplTest {
+
+    private static final String PATH = "acme/shop/users";
+
+    @Mock
+    private EndpointRepository endpointRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private EndpointServiceImpl endpointService;
+
+    private UUID schemaId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        endpointService = new EndpointServiceImpl(endpointRepository, meterRegistry);
+        ReflectionTestUtils.setField(endpointService, "schemaPathCacheMaxSize", 100L);
+        ReflectionTestUtils.setField(endpointService, "schemaPathCacheTtl", Duration.ofMinutes(5));
+        endpointService.initSchemaPathCache();
+
+        schemaId = UUID.randomUUID();
+    }
+
+    private Endpoint schemaEndpoint(String path, UUID id) {
+        MockSchema schema = new MockSchema();
+        schema.setId(id);
+
+        Endpoint endpoint = new Endpoint();
+        endpoint.setFullPath(path);
+        endpoint.setResourceType(Endpoint.ResourceType.SCHEMA);
+        endpoint.setSchema(schema);
+        return endpoint;
+    }
+
+    @Test
+    void resolveSchema_ShouldHitDatabaseOnce_ForRepeatedPath() {
+
+        when(endpointRepository.findByFullPath(PATH))
+                .thenReturn(Optional.of(schemaEndpoint(PATH, schemaId)));
+
+        assertEquals(schemaId, endpointService.resolveSchema("acme", "shop", "users"));
+        assertEquals(schemaId, endpointService.resolveSchema("acme", "shop", "users"));
+
+        verify(endpointRepository, times(1)).findByFullPath(PATH);
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", "endpoint.schema-path").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void resolveSchema_ShouldNotCacheMisses() {
+
+        when(endpointRepository.findByFullPath(PATH))
+                .thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> endpointService.resolveSchema("acme", "shop", "users"));
+        assertThrows(ResourceNotFoundException.class,
+                () -> endpointService.resolveSchema("acme", "shop", "users"));
+
+        verify(endpointRepository, times(2)).findByFullPath(PATH);
+    }
+
+    @Test
+    void updateEndpointSlug_ShouldEvictPathsUnderRenamedParent() {
+
+        UUID orgId = UUID.randomUUID();
+        Endpoint orgEndpoint = new Endpoint();
+        orgEndpoint.setFullPath("acme");
+        orgEndpoint.setResourceType(Endpoint.ResourceType.ORGANIZATION);
+
+        when(endpointRepository.findByFullPath(PATH))
+                .thenReturn(Optional.of(schemaEndpoint(PATH, schemaId)));
+        when(endpointRepository.findByOrganizationId(orgId))
+                .thenReturn(Optional.of(orgEndpoint));
+        when(endpointRepository.existsByFullPath("acme-corp"))
+                .thenReturn(false);
+        when(endpointRepository.findByParentEndpoint(orgEndpoint))
+                .thenReturn(List.of());
+
+        endpointService.resolveSchema("acme", "shop", "users");
+        endpointService.updateEndpointSlug(orgId, "organization", "acme-corp");
+        endpointService.resolveSchema("acme", "shop", "users");
+
+        verify(endpointRepository, times(2)).findByFullPath(PATH);
+    }
+
+    @Test
+    void resolveSchema_ShouldMiss_AfterSchemaDeleted() {
+
+        when(endpointRepository.findByFullPath(PATH))
+                .thenReturn(Optional.of(schemaEndpoint(PATH, schemaId)))
+                .thenReturn(Optional.empty());
+        when(endpointRepository.findBySchemaId(schemaId))
+                .thenReturn(Optional.of(schemaEndpoint(PATH, schemaId)));
+
+        assertEquals(schemaId, endpointService.resolveSchema("acme", "shop", "users"));
+
+        // Schema delete path: evict, then the endpoint row cascades away
+        endpointService.evictEndpointPaths(schemaId, "schema");
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> endpointService.resolveSchema("acme", "shop", "users"));
+        verify(endpointRepository, times(2)).findByFullPath(PATH);
+    }
+
+    @Test
+    void resolveSchema_ShouldMiss_AfterEndpointDeleted() {
+
+        when(endpointRepository.findByFullPath(PATH))
+                .thenReturn(Optional.of(schemaEndpoint(PATH, schemaId)))
+                .thenReturn(Optional.empty());
+        when(endpointRepository.findBySchemaId(schemaId))
+                .thenReturn(Optional.of(schemaEndpoint(PATH, schemaId)));
+
+        assertEquals(schemaId, endpointService.resolveSchema("acme", "shop", "users"));
+
+        endpointService.deleteEndpoint(schemaId, "schema");
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> endpointService.resolveSchema("acme", "shop", "users"));
+        verify(endpointRepository).delete(any(Endpoint.class));
+    }
+
+    @Test
+    void evictEndpointPaths_ShouldEvictPathsUnderDeletedOrganization() {
+
+        UUID orgId = UUID.randomUUID();
+        Endpoint orgEndpoint = new Endpoint();
+        orgEndpoint.setFullPath("acme");
+        orgEndpoint.setResourceType(Endpoint.ResourceType.ORGANIZATION);
+
+        when(endpointRepository.findByFullPath(PATH))
+                .thenReturn(Optional.of(schemaEndpoint(PATH, schemaId)));
+        when(endpointRepository.findByOrganizationId(orgId))
+                .thenReturn(Optional.of(orgEndpoint));
+
+        endpointService.resolveSchema("acme", "shop", "users");
+        endpointService.evictEndpointPaths(orgId, "organization");
+        endpointService.resolveSchema("acme", "shop", "users");
+
+        verify(endpointRepository, times(2)).findByFullPath(PATH);
+    }
+}
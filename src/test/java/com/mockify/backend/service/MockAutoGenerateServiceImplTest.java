@@ -1,5 +1,6 @@
 package com.mockify.backend.service.impl;
 
+import com.mockify.backend.service.MockAutoGenerateService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -223,4 +224,122 @@ class MockAutoGenerateServiceImplTest {
                 exception.getMessage()
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    void compiledPlanGeneratesFreshRecordsInSchemaOrder() {
+
+        Map<String, Object> schema = new java.util.LinkedHashMap<>();
+        schema.put("uuid", "uuid");
+        schema.put("email", "string");
+        schema.put("status", Map.of("type", "enum", "values", List.of("A", "B")));
+        schema.put("age", "number");
+
+        MockAutoGenerateService.GenerationPlan plan = service.compile(schema);
+
+        Map<String, Object> first = plan.generate();
+        Map<String, Object> second = plan.generate();
+
+        assertEquals(List.of("uuid", "email", "status", "age"), List.copyOf(first.keySet()));
+        assertEquals(List.copyOf(schema.keySet()), List.copyOf(second.keySet()));
+
+        assertNotSame(first, second);
+        assertNotEquals(first.get("uuid"), second.get("uuid"));
+        assertTrue(first.get("email").toString().contains("@"));
+        assertTrue(List.of("A", "B").contains(second.get("status")));
+    }
+
+    @Test
+    void seededChunkIsReproducible() {
+
+        Map<String, Object> schema = new java.util.LinkedHashMap<>();
+        schema.put("uuid", "uuid");
+        schema.put("name", "string");
+        schema.put("email", "string");
+        schema.put("createdAt", "datetime");
+        schema.put("status", Map.of("type", "enum", "values", List.of("A", "B", "C")));
+
+        MockAutoGenerateService.GenerationPlan plan = service.compile(schema);
+
+        List<Map<String, Object>> first = plan.generateChunk(50, 7L);
+        List<Map<String, Object>> second = service.compile(schema).generateChunk(50, 7L);
+
+        assertEquals(first, second);
+        assertNotEquals(first, plan.generateChunk(50, 8L));
+        assertEquals(4, UUID.fromString(first.get(0).get("uuid").toString()).version());
+    }
+
+    @Test
+    void unseededChunksDiffer() {
+
+        MockAutoGenerateService.GenerationPlan plan = service.compile(Map.of("uuid", "uuid"));
+
+        assertNotEquals(plan.generateChunk(10, null), plan.generateChunk(10, null));
+    }
+
+    @Test
+    void corpusGeneratorsComposeFakerShapedValues() {
+
+        Map<String, Object> schema = Map.of(
+                "name", "string",
+                "username", "string",
+                "email", "string",
+                "zipCode", "string",
+                "note", "string",
+                "age", "number"
+        );
+
+        for (Map<String, Object> record : service.compile(schema).generateChunk(200, null)) {
+            assertTrue(record.get("name").toString().contains(" "));
+            assertTrue(record.get("username").toString().matches("[^A-Z']+\\.[^A-Z']+"));
+            assertTrue(record.get("email").toString().matches("[^@]+@[^@]+\\.[a-z]+"));
+            assertTrue(record.get("zipCode").toString().matches("\\d{5}"));
+            assertFalse(record.get("note").toString().isBlank());
+
+            int age = (Integer) record.get("age");
+            assertTrue(age >= 1 && age < 1000);
+        }
+    }
+
+    @Test
+    void fakerModeStillGeneratesEveryType() {
+
+        MockAutoGenerateServiceImpl faker = new MockAutoGenerateServiceImpl("faker");
+
+        Map<String, Object> schema = Map.of(
+                "email", "string",
+                "city", "string",
+                "age", "number",
+                "active", "boolean"
+        );
+
+        Map<String, Object> result = faker.generateRecord(schema);
+
+        assertTrue(result.get("email").toString().contains("@"));
+        assertNotNull(result.get("city"));
+        assertTrue(result.get("age") instanceof Number);
+        assertTrue(result.get("active") instanceof Boolean);
+
+        assertEquals(
+                faker.compile(schema).generateChunk(20, 3L),
+                new MockAutoGenerateServiceImpl("faker").compile(schema).generateChunk(20, 3L)
+        );
+    }
+
+    @Test
+    void compileRejectsInvalidSchemaBeforeGeneratingAnything() {
+
+        Map<String, Object> schema = Map.of(
+                "salary", "decimal"
+        );
+
+        IllegalArgumentException exception = assertThrows(
+                IllegalArgumentException.class,
+                () -> service.compile(schema)
+        );
+
+        assertEquals(
+                "Unsupported field type: decimal",
+                exception.getMessage()
+        );
+    }
+}
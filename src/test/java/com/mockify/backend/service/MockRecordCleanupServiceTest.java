@@ -0,0 +1,122 @@
+package com.mockify.backend.service;
+
+import com.mockify.backend.infrastructure.MockRecordPartitionManager;
+import com.mockify.backend.repository.MockRecordRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MockRecordCleanupServiceTest {
+
+    private MockRecordRepository repository;
+    private MockRecordPartitionManager partitionManager;
+    private SimpleMeterRegistry meterRegistry;
+    private MockRecordCleanupService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(MockRecordRepository.class);
+        partitionManager = mock(MockRecordPartitionManager.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new MockRecordCleanupService(repository, partitionManager, meterRegistry);
+        ReflectionTestUtils.setField(service, "chunkSize", 100);
+        ReflectionTestUtils.setField(service, "timeBudget", Duration.ofMinutes(5));
+        service.init();
+    }
+
+    @Test
+    void deletesInChunksUntilOneComesBackShort() {
+        when(repository.deleteExpiredMockRecordsChunk(any(LocalDateTime.class), eq(100)))
+                .thenReturn(100, 100, 42);
+
+        MockRecordCleanupService.CleanupRun run = service.cleanExpiredMockRecords();
+
+        assertThat(run.deleted()).isEqualTo(242);
+        assertThat(run.chunks()).isEqualTo(3);
+        assertThat(run.budgetExhausted()).isFalse();
+
+        assertThat(meterRegistry.counter("cleanup.mock_records.deleted").count()).isEqualTo(242);
+        assertThat(meterRegistry.counter("cleanup.mock_records.chunks").count()).isEqualTo(3);
+        assertThat(meterRegistry.timer("cleanup.mock_records.duration", "outcome", "completed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void everyChunkUsesTheCutOffOfTheRunStart() {
+        when(repository.deleteExpiredMockRecordsChunk(any(LocalDateTime.class), eq(100)))
+                .thenReturn(100, 0);
+
+        service.cleanExpiredMockRecords();
+
+        ArgumentCaptor<LocalDateTime> cutOffs = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(repository, times(2)).deleteExpiredMockRecordsChunk(cutOffs.capture(), eq(100));
+
+        assertThat(cutOffs.getAllValues()).hasSize(2).containsOnly(cutOffs.getAllValues().get(0));
+    }
+
+    @Test
+    void dropsExpiredPartitionsBeforeDeletingRows() {
+        when(partitionManager.dropExpiredPartitions(any(LocalDateTime.class))).thenReturn(2);
+        when(repository.deleteExpiredMockRecordsChunk(any(LocalDateTime.class), eq(100))).thenReturn(7);
+
+        MockRecordCleanupService.CleanupRun run = service.cleanExpiredMockRecords();
+
+        assertThat(run.partitionsDropped()).isEqualTo(2);
+        assertThat(run.deleted()).isEqualTo(7);
+        assertThat(meterRegistry.counter("cleanup.mock_records.partitions_dropped").count()).isEqualTo(2);
+
+        var order = inOrder(partitionManager, repository);
+        order.verify(partitionManager).dropExpiredPartitions(any(LocalDateTime.class));
+        order.verify(repository).deleteExpiredMockRecordsChunk(any(LocalDateTime.class), eq(100));
+    }
+
+    @Test
+    void failedPartitionDropFallsBackToRowDeletes() {
+        when(partitionManager.dropExpiredPartitions(any(LocalDateTime.class)))
+                .thenThrow(new DataAccessResourceFailureException("lock timeout"));
+        when(repository.deleteExpiredMockRecordsChunk(any(LocalDateTime.class), eq(100))).thenReturn(3);
+
+        MockRecordCleanupService.CleanupRun run = service.cleanExpiredMockRecords();
+
+        assertThat(run.partitionsDropped()).isZero();
+        assertThat(run.deleted()).isEqualTo(3);
+    }
+
+    @Test
+    void stopsWhenTimeBudgetIsSpent() {
+        ReflectionTestUtils.setField(service, "timeBudget", Duration.ZERO);
+        when(repository.deleteExpiredMockRecordsChunk(any(LocalDateTime.class), eq(100)))
+                .thenReturn(100);
+
+        MockRecordCleanupService.CleanupRun run = service.cleanExpiredMockRecords();
+
+        assertThat(run.deleted()).isEqualTo(100);
+        assertThat(run.chunks()).isEqualTo(1);
+        assertThat(run.budgetExhausted()).isTrue();
+        assertThat(meterRegistry.timer("cleanup.mock_records.duration", "outcome", "budget_exhausted").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void failedChunkKeepsEarlierCommitsAndRecordsFailure() {
+        when(repository.deleteExpiredMockRecordsChunk(any(LocalDateTime.class), eq(100)))
+                .thenReturn(100)
+                .thenThrow(new IllegalStateException("db down"));
+
+        assertThatThrownBy(service::cleanExpiredMockRecords).hasMessage("db down");
+
+        assertThat(meterRegistry.counter("cleanup.mock_records.deleted").count()).isEqualTo(100);
+        assertThat(meterRegistry.timer("cleanup.mock_records.duration", "outcome", "failed").count()).isEqualTo(1);
+    }
+}
@@ -1,28 +1,44 @@
 package com.mockify.backend.service.impl;
 
+import com.mockify.backend.common.enums.RecordExportFormat;
 import com.mockify.backend.dto.request.record.CreateMockRecordRequest;
 import com.mockify.backend.dto.request.record.UpdateMockRecordRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mockify.backend.dto.response.record.MockRecordExportRow;
 import com.mockify.backend.dto.response.record.MockRecordResponse;
+import com.mockify.backend.dto.response.record.RecordExport;
+import com.mockify.backend.dto.response.record.RecordImportSummary;
 import com.mockify.backend.exception.BadRequestException;
 import com.mockify.backend.exception.ResourceNotFoundException;
+import com.mockify.backend.infrastructure.MockRecordBatchWriter;
+import com.mockify.backend.infrastructure.RecordGenerationEngine;
 import com.mockify.backend.mapper.MockRecordMapper;
 import com.mockify.backend.model.MockRecord;
 import com.mockify.backend.model.MockSchema;
 import com.mockify.backend.repository.MockRecordRepository;
 import com.mockify.backend.repository.MockSchemaRepository;
+import com.mockify.backend.security.SchemaAccess;
+import com.mockify.backend.security.SchemaAccessGuard;
 import com.mockify.backend.service.MockAutoGenerateService;
 import com.mockify.backend.service.MockValidatorService;
+import com.mockify.backend.util.RecordCursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.data.domain.*;
 
-import java.lang.reflect.Method;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -45,6 +61,18 @@ class MockRecordServiceImplTest {
     @Mock
     private MockAutoGenerateService autoGenerateService;
 
+    @Mock
+    private MockRecordBatchWriter mockRecordBatchWriter;
+
+    @Mock
+    private RecordGenerationEngine recordGenerationEngine;
+
+    @Mock
+    private SchemaAccessGuard schemaAccessGuard;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private MockRecordServiceImpl mockRecordService;
 
@@ -87,6 +115,8 @@ class MockRecordServiceImplTest {
         updateRequest.setData(data);
 
         response = new MockRecordResponse();
+
+        ReflectionTestUtils.setField(mockRecordService, "importMaxLineChars", 64);
     }
 
     // -------------------------------------------------------------------------
@@ -111,7 +141,7 @@ class MockRecordServiceImplTest {
         assertNotNull(result);
 
         verify(mockValidatorService)
-                .validateRecordAgainstSchema(schema.getSchemaJson(), data);
+                .validateRecordAgainstSchema(schema, data);
 
         verify(mockRecordRepository).save(record);
     }
@@ -160,7 +190,8 @@ class MockRecordServiceImplTest {
 
         assertEquals(1, result.size());
 
-        verify(mockRecordRepository, times(1)).save(any());
+        verify(mockRecordBatchWriter, times(1)).insertAll(argThat(records -> records.size() == 1));
+        verify(mockRecordRepository, never()).save(any());
     }
 
     @Test
@@ -176,6 +207,147 @@ class MockRecordServiceImplTest {
         );
     }
 
+    // -------------------------------------------------------------------------
+    // importRecordsStream
+    // -------------------------------------------------------------------------
+
+    @Test
+    void importRecordsStream_ShouldSkipAndReportMalformedLines() {
+
+        String ndjson = """
+                {"name":"a"}
+
+                not-json
+                {"name":"b"}
+                """;
+
+        when(mockSchemaRepository.findById(schemaId))
+                .thenReturn(Optional.of(schema));
+
+        when(mockRecordBatchWriter.getBatchSize())
+                .thenReturn(500);
+
+        when(mockRecordMapper.toEntity(any()))
+                .thenAnswer(inv -> new MockRecord());
+
+        RecordImportSummary summary = mockRecordService.importRecordsStream(
+                userId, schemaId, new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(3, summary.getReceived());
+        assertEquals(2, summary.getInserted());
+        assertEquals(1, summary.getFailed());
+        assertEquals(List.of(3L), summary.getFailedLines());
+
+        verify(mockRecordBatchWriter).insertAll(argThat(records -> records.size() == 2));
+        verify(mockRecordRepository, never()).save(any());
+    }
+
+    @Test
+    void importRecordsStream_ShouldCountInvalidRecordsAsFailed() {
+
+        String ndjson = "{\"name\":\"a\"}\n{\"name\":1}\n";
+
+        when(mockSchemaRepository.findById(schemaId))
+                .thenReturn(Optional.of(schema));
+
+        when(mockRecordBatchWriter.getBatchSize())
+                .thenReturn(500);
+
+        when(mockRecordMapper.toEntity(any()))
+                .thenAnswer(inv -> new MockRecord());
+
+        doNothing().when(mockValidatorService)
+                .validateRecordAgainstSchema(schema, Map.of("name", "a"));
+        doThrow(new BadRequestException("Field 'name' must be of type string"))
+                .when(mockValidatorService)
+                .validateRecordAgainstSchema(schema, Map.of("name", 1));
+
+        RecordImportSummary summary = mockRecordService.importRecordsStream(
+                userId, schemaId, new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, summary.getInserted());
+        assertEquals(List.of(2L), summary.getFailedLines());
+    }
+
+    @Test
+    void importRecordsStream_ShouldRejectOverlongLinesWithoutBufferingThem() {
+
+        String ndjson = "{\"name\":\"a\"}\r\n"
+                + "{\"name\":\"" + "x".repeat(10_000) + "\"}\n"
+                + "{\"name\":\"b\"}";
+
+        when(mockSchemaRepository.findById(schemaId))
+                .thenReturn(Optional.of(schema));
+
+        when(mockRecordBatchWriter.getBatchSize())
+                .thenReturn(500);
+
+        when(mockRecordMapper.toEntity(any()))
+                .thenAnswer(inv -> new MockRecord());
+
+        RecordImportSummary summary = mockRecordService.importRecordsStream(
+                userId, schemaId, new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(3, summary.getReceived());
+        assertEquals(2, summary.getInserted());
+        assertEquals(List.of(2L), summary.getFailedLines());
+        verify(mockValidatorService, never())
+                .validateRecordAgainstSchema(eq(schema), argThat(d -> d.get("name").toString().length() > 64));
+    }
+
+    @Test
+    void importRecordsStream_ShouldCountLinesWithTrailingTokensAsFailed() {
+
+        String ndjson = """
+                {"name":"a"} garbage
+                {"name":"b"}{"name":"c"}
+                {"name":"d"}
+                """;
+
+        when(mockSchemaRepository.findById(schemaId))
+                .thenReturn(Optional.of(schema));
+
+        when(mockRecordBatchWriter.getBatchSize())
+                .thenReturn(500);
+
+        when(mockRecordMapper.toEntity(any()))
+                .thenAnswer(inv -> new MockRecord());
+
+        RecordImportSummary summary = mockRecordService.importRecordsStream(
+                userId, schemaId, new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(3, summary.getReceived());
+        assertEquals(1, summary.getInserted());
+        assertEquals(List.of(1L, 2L), summary.getFailedLines());
+    }
+
+    @Test
+    void importRecordsStream_ShouldSplitLinesAcrossReadBlocks() {
+
+        // ~15 chars per line: line breaks land on every offset of the read blocks
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < 2_000; i++) {
+            ndjson.append("{\"name\":\"").append(i).append("\"}\r\n");
+        }
+
+        when(mockSchemaRepository.findById(schemaId))
+                .thenReturn(Optional.of(schema));
+
+        when(mockRecordBatchWriter.getBatchSize())
+                .thenReturn(500);
+
+        when(mockRecordMapper.toEntity(any()))
+                .thenAnswer(inv -> new MockRecord());
+
+        RecordImportSummary summary = mockRecordService.importRecordsStream(
+                userId, schemaId, new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2_000, summary.getReceived());
+        assertEquals(2_000, summary.getInserted());
+        assertEquals(0, summary.getFailed());
+        verify(mockValidatorService).validateRecordAgainstSchema(schema, Map.of("name", "1999"));
+    }
+
     // -------------------------------------------------------------------------
     // autoGenerateRecordsBulk
     // -------------------------------------------------------------------------
@@ -186,8 +358,19 @@ class MockRecordServiceImplTest {
         when(mockSchemaRepository.findById(schemaId))
                 .thenReturn(Optional.of(schema));
 
-        when(autoGenerateService.generateRecord(any()))
-                .thenReturn(data);
+        when(autoGenerateService.compile(any()))
+                .thenReturn(() -> data);
+
+        when(mockRecordBatchWriter.getBatchSize())
+                .thenReturn(500);
+
+        // Engine hands the whole count over as one chunk
+        doAnswer(inv -> {
+            MockAutoGenerateService.GenerationPlan plan = inv.getArgument(0);
+            Consumer<List<Map<String, Object>>> sink = inv.getArgument(3);
+            sink.accept(plan.generateChunk(inv.getArgument(1), inv.getArgument(2)));
+            return null;
+        }).when(recordGenerationEngine).generate(any(), eq(2), eq(42L), any());
 
         when(mockRecordMapper.toEntity(any()))
                 .thenReturn(record);
@@ -196,17 +379,92 @@ class MockRecordServiceImplTest {
                 .thenReturn(response);
 
         List<MockRecordResponse> result =
-                mockRecordService.autoGenerateRecordsBulk(userId, schemaId, 2);
+                mockRecordService.autoGenerateRecordsBulk(userId, schemaId, 2, 42L);
 
         assertEquals(2, result.size());
 
-        verify(autoGenerateService, times(2))
-                .generateRecord(any());
+        // One plan for the whole batch
+        verify(autoGenerateService, times(1))
+                .compile(any());
+
+        verify(mockRecordBatchWriter, times(1))
+                .insertAll(argThat(records -> records.size() == 2));
 
-        verify(mockRecordRepository, times(2))
+        verify(mockRecordRepository, never())
                 .save(any());
     }
 
+    // -------------------------------------------------------------------------
+    // exportRecords
+    // -------------------------------------------------------------------------
+
+    @Test
+    void exportRecords_ShouldWriteOneJsonLinePerRecord() throws Exception {
+
+        LocalDateTime now = LocalDateTime.now();
+
+        when(mockRecordRepository.streamExportRows(schemaId))
+                .thenReturn(Stream.of(
+                        new MockRecordExportRow(UUID.randomUUID(), Map.of("name", "a"), now, now.plusDays(7)),
+                        new MockRecordExportRow(UUID.randomUUID(), Map.of("name", "b"), now, now.plusDays(7))));
+
+        RecordExport export = new RecordExport(schemaId, RecordExportFormat.NDJSON, List.of("name"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long written = mockRecordService.exportRecords(userId, export, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+
+        assertEquals(2, written);
+        assertEquals(2, lines.length);
+        assertEquals("b", objectMapper.readTree(lines[1]).path("data").path("name").asText());
+    }
+
+    @Test
+    void exportRecords_ShouldWriteCsvWithSchemaColumns() throws Exception {
+
+        LocalDateTime now = LocalDateTime.now();
+        UUID id = UUID.randomUUID();
+        when(mockRecordRepository.streamExportRows(schemaId))
+                .thenReturn(Stream.of(
+                        new MockRecordExportRow(id, Map.of("name", "Doe, \"Jane\""), now, now.plusDays(7))));
+
+        RecordExport export = new RecordExport(schemaId, RecordExportFormat.CSV, List.of("name"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        mockRecordService.exportRecords(userId, export, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+
+        assertEquals("id,created_at,expires_at,name", lines[0]);
+        assertEquals(id + "," + now + "," + now.plusDays(7) + ",\"Doe, \"\"Jane\"\"\"", lines[1]);
+    }
+
+    @Test
+    void prepareExport_ShouldResolveSchemaColumns() {
+
+        schema.setSchemaJson(new LinkedHashMap<>(Map.of("name", "string")));
+
+        when(mockSchemaRepository.findById(schemaId))
+                .thenReturn(Optional.of(schema));
+
+        RecordExport export = mockRecordService.prepareExport(userId, schemaId, RecordExportFormat.CSV);
+
+        assertEquals(schemaId, export.schemaId());
+        assertEquals(List.of("name"), export.columns());
+        verifyNoInteractions(mockRecordRepository);
+    }
+
+    @Test
+    void prepareExport_ShouldThrow_WhenSchemaNotFound() {
+
+        when(mockSchemaRepository.findById(schemaId))
+                .thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> mockRecordService.prepareExport(userId, schemaId, RecordExportFormat.NDJSON));
+    }
+
     // -------------------------------------------------------------------------
     // getRecordById
     // -------------------------------------------------------------------------
@@ -238,6 +496,44 @@ class MockRecordServiceImplTest {
         );
     }
 
+    // -------------------------------------------------------------------------
+    // getRecordByPath
+    // -------------------------------------------------------------------------
+
+    @Test
+    void getRecordByPath_ShouldLoadRecordScopedToResolvedSchema() {
+
+        SchemaAccess access = new SchemaAccess(schemaId, UUID.randomUUID(), UUID.randomUUID(), null);
+
+        when(schemaAccessGuard.authorize("acme", "shop", "users", recordId, "RECORD", "READ"))
+                .thenReturn(access);
+
+        when(mockRecordRepository.findByIdAndMockSchema_Id(recordId, schemaId))
+                .thenReturn(Optional.of(record));
+
+        when(mockRecordMapper.toResponse(record))
+                .thenReturn(response);
+
+        assertNotNull(mockRecordService.getRecordByPath(userId, "acme", "shop", "users", recordId));
+
+        verify(mockRecordRepository, never()).findById(any());
+    }
+
+    @Test
+    void getRecordByPath_ShouldThrow_WhenRecordInAnotherSchema() {
+
+        when(schemaAccessGuard.authorize("acme", "shop", "users", recordId, "RECORD", "READ"))
+                .thenReturn(new SchemaAccess(schemaId, UUID.randomUUID(), UUID.randomUUID(), null));
+
+        when(mockRecordRepository.findByIdAndMockSchema_Id(recordId, schemaId))
+                .thenReturn(Optional.empty());
+
+        assertThrows(
+                ResourceNotFoundException.class,
+                () -> mockRecordService.getRecordByPath(userId, "acme", "shop", "users", recordId)
+        );
+    }
+
     // -------------------------------------------------------------------------
     // getRecordsBySchemaId
     // -------------------------------------------------------------------------
@@ -262,6 +558,39 @@ class MockRecordServiceImplTest {
         assertEquals(1, result.getTotalElements());
     }
 
+    // -------------------------------------------------------------------------
+    // getRecordSliceBySchemaId
+    // -------------------------------------------------------------------------
+
+    @Test
+    void getRecordSliceBySchemaId_ShouldSeekFromDecodedCursor() {
+
+        RecordCursor cursor = new RecordCursor(LocalDateTime.now(), UUID.randomUUID());
+        Slice<MockRecord> slice = new SliceImpl<>(List.of(record), PageRequest.of(0, 10), true);
+
+        when(mockRecordRepository.findSlice(eq(schemaId), eq(cursor), any(Pageable.class)))
+                .thenReturn(slice);
+
+        when(mockRecordMapper.toResponse(record))
+                .thenReturn(response);
+
+        Slice<MockRecordResponse> result =
+                mockRecordService.getRecordSliceBySchemaId(userId, schemaId, cursor.encode(), 10);
+
+        assertTrue(result.hasNext());
+        assertEquals(1, result.getContent().size());
+        verify(mockRecordRepository, never()).findByMockSchema_Id(any(), any());
+    }
+
+    @Test
+    void getRecordSliceBySchemaId_ShouldThrow_WhenSizeTooLarge() {
+
+        assertThrows(
+                BadRequestException.class,
+                () -> mockRecordService.getRecordSliceBySchemaId(userId, schemaId, null, 51)
+        );
+    }
+
     // -------------------------------------------------------------------------
     // updateRecord
     // -------------------------------------------------------------------------
@@ -282,7 +611,7 @@ class MockRecordServiceImplTest {
 
         verify(mockValidatorService)
                 .validateRecordAgainstSchema(
-                        schema.getSchemaJson(),
+                        schema,
                         data
                 );
 
@@ -343,25 +672,4 @@ class MockRecordServiceImplTest {
 
         assertEquals(5L, result);
     }
-
-    // -------------------------------------------------------------------------
-    // deleteExpiredRecords
-    // -------------------------------------------------------------------------
-
-    @Test
-    void deleteExpiredRecords_ShouldDeleteExpiredRecords() throws Exception {
-
-        List<MockRecord> expired = List.of(record);
-
-        when(mockRecordRepository.findByExpiresAtBefore(any(LocalDateTime.class)))
-                .thenReturn(expired);
-
-        Method method = MockRecordServiceImpl.class
-                .getDeclaredMethod("deleteExpiredRecords");
-
-        method.setAccessible(true);
-        method.invoke(mockRecordService);
-
-        verify(mockRecordRepository).deleteAll(expired);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,112 @@
+package com.mockify.backend.service.impl;
+
+import com.mockify.backend.exception.BadRequestException;
+import com.mockify.backend.model.MockSchema;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MockValidatorServiceImplTest {
+
+    private MockValidatorServiceImpl service;
+
+    private MockSchema schema;
+
+    @BeforeEach
+    void setUp() {
+        service = new MockValidatorServiceImpl();
+
+        schema = new MockSchema();
+        schema.setId(UUID.randomUUID());
+        schema.setUpdatedAt(LocalDateTime.now());
+        schema.setSchemaJson(Map.of(
+                "name", "string",
+                "age", "Number",
+                "status", Map.of("type", "enum", "values", List.of("ACTIVE", "BLOCKED"))
+        ));
+    }
+
+    private Map<String, Object> validRecord() {
+        Map<String, Object> record = new HashMap<>();
+        record.put("name", "John");
+        record.put("age", 30);
+        record.put("status", "ACTIVE");
+        return record;
+    }
+
+    @Test
+    void compiledSchema_ShouldAcceptValidRecord() {
+        assertDoesNotThrow(() -> service.validateRecordAgainstSchema(schema, validRecord()));
+    }
+
+    @Test
+    void compiledSchema_ShouldRejectMissingField() {
+        Map<String, Object> record = validRecord();
+        record.remove("age");
+
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> service.validateRecordAgainstSchema(schema, record));
+
+        assertEquals("Missing field 'age' in record", ex.getMessage());
+    }
+
+    @Test
+    void compiledSchema_ShouldRejectExtraField() {
+        Map<String, Object> record = validRecord();
+        record.put("extra", true);
+
+        assertThrows(BadRequestException.class,
+                () -> service.validateRecordAgainstSchema(schema, record));
+    }
+
+    @Test
+    void compiledSchema_ShouldRejectUnknownEnumValue() {
+        Map<String, Object> record = validRecord();
+        record.put("status", "DELETED");
+
+        assertThrows(BadRequestException.class,
+                () -> service.validateRecordAgainstSchema(schema, record));
+    }
+
+    @Test
+    void compiledSchema_ShouldRecompile_WhenSchemaVersionChanges() {
+        service.validateRecordAgainstSchema(schema, validRecord());
+
+        // Same id, new definition and version
+        schema.setSchemaJson(Map.of("name", "string"));
+        schema.setUpdatedAt(schema.getUpdatedAt().plusSeconds(1));
+
+        assertDoesNotThrow(() -> service.validateRecordAgainstSchema(schema, Map.of("name", "Jane")));
+    }
+
+    @Test
+    void compiledSchema_ShouldRecompile_AfterEviction() {
+        service.validateRecordAgainstSchema(schema, validRecord());
+
+        // Same version, but definition changed in place — only eviction picks it up
+        schema.setSchemaJson(Map.of("name", "string"));
+        service.evictCompiledSchema(schema.getId());
+
+        assertDoesNotThrow(() -> service.validateRecordAgainstSchema(schema, Map.of("name", "Jane")));
+    }
+
+    @Test
+    void compiledSchema_ShouldMatchRawValidation() {
+        Map<String, Object> record = validRecord();
+        record.put("age", "thirty");
+
+        BadRequestException raw = assertThrows(BadRequestException.class,
+                () -> service.validateRecordAgainstSchema(schema.getSchemaJson(), record));
+        BadRequestException compiled = assertThrows(BadRequestException.class,
+                () -> service.validateRecordAgainstSchema(schema, record));
+
+        assertEquals(raw.getMessage(), compiled.getMessage());
+    }
+}
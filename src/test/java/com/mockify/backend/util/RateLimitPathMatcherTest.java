@@ -0,0 +1,125 @@
+package com.mockify.backend.util;
+
+import com.mockify.backend.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitPathMatcherTest {
+
+    // Sample of real request paths, including edge cases around each pattern
+    static final List<String> PATHS = List.of(
+            "/api/auth/login",
+            "/api/auth",
+            "/api/authx",
+            "/api/mock/acme/shop/products",
+            "/api/mock/acme/shop/products/3f1c2a9e-8d4b-4e7a-9c1f-2b6d8e0a7c55",
+            "/api/mock",
+            "/api/endpoints/lookup/acme/shop",
+            "/api/dashboard/stats",
+            "/api/organizations",
+            "/api/organizations/3f1c2a9e-8d4b-4e7a-9c1f-2b6d8e0a7c55/members",
+            "/api/acme/shop",
+            "/api/acme/projects/shop",
+            "/api/acme/shop/schemas",
+            "/api/acme/shop/schemas/products",
+            "/api/acme/shop/products/records",
+            "/api/acme/shop/products/records/3f1c2a9e-8d4b-4e7a-9c1f-2b6d8e0a7c55",
+            "/api/acme/shop/products/records/export",
+            "/api/schema-templates/ecommerce",
+            "/api/admin/users",
+            "/actuator/health",
+            "/actuator",
+            "/api/acme/shop/",
+            "/api",
+            "/",
+            "/favicon.ico");
+
+    @Test
+    void match_agreesWithAntPathMatcherOnDefaultConfig() {
+        RateLimitPathMatcher matcher = matcher(defaultGroups());
+        AntPathMatcher ant = new AntPathMatcher();
+
+        for (String path : PATHS) {
+            String expected = defaultGroups().entrySet().stream()
+                    .filter(e -> e.getValue().getPaths().stream().anyMatch(p -> ant.match(p, path)))
+                    .map(Map.Entry::getKey)
+                    .findFirst()
+                    .orElse(null);
+
+            RateLimitPathMatcher.RateLimitMatch match = matcher.match(path);
+            assertThat(match == null ? null : match.groupName()).as(path).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void match_firstDeclaredGroupWinsWhenPatternsOverlap() {
+        Map<String, RateLimitProperties.GroupLimit> groups = new LinkedHashMap<>();
+        groups.put("organization", group("/api/organizations/**"));
+        groups.put("project", group("/api/*/*"));
+
+        assertThat(matcher(groups).match("/api/organizations/acme").groupName()).isEqualTo("organization");
+
+        Map<String, RateLimitProperties.GroupLimit> reversed = new LinkedHashMap<>();
+        reversed.put("project", group("/api/*/*"));
+        reversed.put("organization", group("/api/organizations/**"));
+
+        assertThat(matcher(reversed).match("/api/organizations/acme").groupName()).isEqualTo("project");
+    }
+
+    @Test
+    void match_memoizesDecisionsIncludingMisses() {
+        RateLimitPathMatcher matcher = matcher(defaultGroups());
+
+        RateLimitPathMatcher.RateLimitMatch first = matcher.match("/api/mock/acme/shop/products");
+        assertThat(matcher.match("/api/mock/acme/shop/products")).isSameAs(first);
+
+        assertThat(matcher.match("/favicon.ico")).isNull();
+        assertThat(matcher.match("/favicon.ico")).isNull();
+    }
+
+    @Test
+    void match_noGroupsConfigured() {
+        assertThat(matcher(null).match("/api/auth/login")).isNull();
+    }
+
+    static RateLimitPathMatcher matcher(Map<String, RateLimitProperties.GroupLimit> groups) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setGroups(groups);
+
+        RateLimitPathMatcher matcher = new RateLimitPathMatcher(properties, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(matcher, "routeCacheMaxSize", 10_000L);
+        matcher.init();
+        return matcher;
+    }
+
+    // Mirrors mockify.rate-limit.groups in application.yml
+    static Map<String, RateLimitProperties.GroupLimit> defaultGroups() {
+        Map<String, RateLimitProperties.GroupLimit> groups = new LinkedHashMap<>();
+        groups.put("auth", group("/api/auth/**"));
+        groups.put("public-mock", group("/api/mock/**"));
+        groups.put("lookup", group("/api/endpoints/lookup/**"));
+        groups.put("dashboard", group("/api/dashboard/**"));
+        groups.put("organization", group("/api/organizations/**"));
+        groups.put("project", group("/api/*/*", "/api/*/projects/**"));
+        groups.put("schema", group("/api/*/*/schemas", "/api/*/*/schemas/**"));
+        groups.put("records", group("/api/*/*/*/records/**"));
+        groups.put("templates", group("/api/schema-templates/**"));
+        groups.put("admin", group("/api/admin/**"));
+        groups.put("actuator", group("/actuator/**"));
+        return groups;
+    }
+
+    private static RateLimitProperties.GroupLimit group(String... paths) {
+        RateLimitProperties.GroupLimit group = new RateLimitProperties.GroupLimit();
+        group.setPaths(List.of(paths));
+        return group;
+    }
+}
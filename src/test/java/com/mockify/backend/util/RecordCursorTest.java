@@ -0,0 +1,38 @@
+package com.mockify.backend.util;
+
+import com.mockify.backend.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecordCursorTest {
+
+    @Test
+    void encode_then_decode_round_trips() {
+        RecordCursor cursor = new RecordCursor(LocalDateTime.of(2025, 3, 1, 10, 15, 30, 123_456_000), UUID.randomUUID());
+
+        assertEquals(cursor, RecordCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void encoded_token_is_url_safe() {
+        String token = new RecordCursor(LocalDateTime.now(), UUID.randomUUID()).encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    void malformed_token_is_rejected() {
+        assertThrows(BadRequestException.class, () -> RecordCursor.decode("not a cursor"));
+    }
+
+    @Test
+    void token_without_separator_is_rejected() {
+        String token = java.util.Base64.getUrlEncoder().encodeToString("2025-03-01T10:15:30".getBytes());
+
+        assertThrows(BadRequestException.class, () -> RecordCursor.decode(token));
+    }
+}